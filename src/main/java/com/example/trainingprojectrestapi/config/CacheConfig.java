@@ -0,0 +1,13 @@
+package com.example.trainingprojectrestapi.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the in-process caches. The Caffeine caches themselves, their size and TTL bounds and the
+ * statistics recording are configured with the {@code spring.cache.*} properties.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
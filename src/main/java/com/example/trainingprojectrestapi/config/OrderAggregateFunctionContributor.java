@@ -0,0 +1,28 @@
+package com.example.trainingprojectrestapi.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.MONTH_START_FUNCTION;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.WEEK_START_FUNCTION;
+
+/**
+ * Registers the PostgreSQL date truncation functions used to bucket orders by week and month.
+ * Weeks start on Monday, as {@code date_trunc} follows ISO 8601.
+ */
+public class OrderAggregateFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry basicTypeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+        functionContributions.getFunctionRegistry().registerPattern(WEEK_START_FUNCTION,
+                "cast(date_trunc('week', ?1) as date)",
+                basicTypeRegistry.resolve(StandardBasicTypes.LOCAL_DATE));
+        functionContributions.getFunctionRegistry().registerPattern(MONTH_START_FUNCTION,
+                "cast(date_trunc('month', ?1) as date)",
+                basicTypeRegistry.resolve(StandardBasicTypes.LOCAL_DATE));
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.trainingprojectrestapi.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.IMPORT_JOB_EXECUTOR;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.IMPORT_JOB_HEARTBEAT_EXECUTOR;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.ORDER_VALIDATION_EXECUTOR;
+
+/**
+ * Configuration of the worker pools used by the JSON order import.
+ */
+@Configuration
+public class OrderImportConfig {
+
+    /**
+     * Creates the bounded worker pool validating imported order chunks ahead of persistence.
+     *
+     * @param importProperties The order import configuration properties.
+     * @return A fixed-size {@link ExecutorService} with {@code orders.import.validation-threads} threads.
+     */
+    @Bean(name = ORDER_VALIDATION_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService orderValidationExecutor(OrderImportProperties importProperties) {
+        return Executors.newFixedThreadPool(importProperties.getValidationThreads(),
+                new CustomizableThreadFactory("order-validation-"));
+    }
+
+    /**
+     * Creates the dedicated pool running asynchronous import jobs outside of the request threads.
+     * With {@code spring.threads.virtual.enabled=true} the jobs run on virtual threads, which release their
+     * carrier thread while blocked on JDBC; the pool size still bounds the number of concurrent jobs.
+     *
+     * @param importProperties The order import configuration properties.
+     * @param environment      The application environment.
+     * @return A fixed-size {@link ExecutorService} with {@code orders.import.job-threads} threads.
+     */
+    @Bean(name = IMPORT_JOB_EXECUTOR, destroyMethod = "shutdown")
+    public ExecutorService importJobExecutor(OrderImportProperties importProperties, Environment environment) {
+        ThreadFactory threadFactory = Threading.VIRTUAL.isActive(environment)
+                ? Thread.ofVirtual().name("import-job-", 1).factory()
+                : new CustomizableThreadFactory("import-job-");
+        return Executors.newFixedThreadPool(importProperties.getJobThreads(), threadFactory);
+    }
+
+    /**
+     * Creates the single-threaded scheduler renewing the heartbeat of the import jobs of this instance
+     * and failing the jobs abandoned by stopped instances.
+     *
+     * @return A single-threaded {@link ScheduledExecutorService}.
+     */
+    @Bean(name = IMPORT_JOB_HEARTBEAT_EXECUTOR, destroyMethod = "shutdown")
+    public ScheduledExecutorService importJobHeartbeatExecutor() {
+        return Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("import-job-heartbeat-"));
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.trainingprojectrestapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the JSON order import.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "orders.import")
+public class OrderImportProperties {
+    /**
+     * Number of orders parsed from the file, validated and persisted together.
+     */
+    private int chunkSize = 500;
+    /**
+     * Number of insert statements sent to the database in one JDBC batch.
+     */
+    private int batchSize = 500;
+    /**
+     * Number of worker threads validating parsed chunks.
+     */
+    private int validationThreads = Runtime.getRuntime().availableProcessors();
+    /**
+     * Maximum number of parsed chunks waiting for validation or persistence.
+     * Parsing blocks on the oldest chunk once this limit is reached.
+     */
+    private int maxPendingChunks = 8;
+    /**
+     * Number of asynchronous import jobs running at the same time.
+     */
+    private int jobThreads = 2;
+    /**
+     * Interval at which an instance renews the heartbeat of the import jobs it has queued or running.
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(10);
+    /**
+     * Time after its last heartbeat at which a queued or running import job is considered abandoned,
+     * e.g. because its instance was stopped, and is failed by any instance. Must be well above
+     * {@code orders.import.heartbeat-interval}.
+     */
+    private Duration jobLease = Duration.ofMinutes(1);
+}
@@ -0,0 +1,18 @@
+package com.example.trainingprojectrestapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the CSV order report.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "orders.report")
+public class OrderReportProperties {
+    /**
+     * Number of rows fetched from the database cursor per round trip.
+     */
+    private int fetchSize = 1000;
+}
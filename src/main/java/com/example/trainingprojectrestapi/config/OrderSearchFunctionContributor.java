@@ -0,0 +1,31 @@
+package com.example.trainingprojectrestapi.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.DESCRIPTION_MATCHES_FUNCTION;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.DESCRIPTION_RANK_FUNCTION;
+
+/**
+ * Registers the PostgreSQL full-text search functions used by the order description search.
+ * The {@code to_tsvector} expression must stay identical to the one of the
+ * {@code idx_orders_description_fts} index, otherwise the index is not used.
+ */
+public class OrderSearchFunctionContributor implements FunctionContributor {
+    private static final String DESCRIPTION_VECTOR = "to_tsvector('english', coalesce(?1, ''))";
+    private static final String SEARCH_QUERY = "plainto_tsquery('english', ?2)";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry basicTypeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+        functionContributions.getFunctionRegistry().registerPattern(DESCRIPTION_MATCHES_FUNCTION,
+                "(" + DESCRIPTION_VECTOR + " @@ " + SEARCH_QUERY + ")",
+                basicTypeRegistry.resolve(StandardBasicTypes.BOOLEAN));
+        functionContributions.getFunctionRegistry().registerPattern(DESCRIPTION_RANK_FUNCTION,
+                "ts_rank(" + DESCRIPTION_VECTOR + ", " + SEARCH_QUERY + ")",
+                basicTypeRegistry.resolve(StandardBasicTypes.DOUBLE));
+    }
+}
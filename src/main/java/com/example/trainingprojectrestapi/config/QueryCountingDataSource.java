@@ -0,0 +1,76 @@
+package com.example.trainingprojectrestapi.config;
+
+import com.example.trainingprojectrestapi.model.QueryStatistics;
+import com.example.trainingprojectrestapi.util.QueryCountUtil;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Counts the SQL statements executed through the wrapped data source into the {@link QueryStatistics} of
+ * the current request. Counting at the JDBC level covers Hibernate as well as {@code JdbcTemplate}, so batch
+ * inserts, rollup upserts and set-based updates are counted too. Every execution is counted once, so an
+ * {@code executeBatch} call counts as a single statement, like the single round trip it makes.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    public QueryCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection() throws SQLException {
+        return (Connection) countingProxy(Connection.class, super.getConnection());
+    }
+
+    @Override
+    @NonNull
+    public Connection getConnection(@NonNull String username, @NonNull String password) throws SQLException {
+        return (Connection) countingProxy(Connection.class, super.getConnection(username, password));
+    }
+
+    /**
+     * Wraps a JDBC object, counting the executions of the statements it creates, or its own executions
+     * if it is a statement. Proxies compare by identity, since JDBC resources are tracked in hash maps.
+     *
+     * @param type   The JDBC interface of the object.
+     * @param target The object to wrap.
+     * @return The counting proxy of the object.
+     */
+    private static Object countingProxy(Class<?> type, Object target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+                return proxy == args[0];
+            }
+            if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+                return System.identityHashCode(proxy);
+            }
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return countingProxy(method.getReturnType(), result);
+            }
+            if (target instanceof Statement && method.getName().startsWith("execute")) {
+                QueryCountUtil.count(QueryStatistics::countStatement);
+            }
+            return result;
+        };
+        return Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.trainingprojectrestapi.config;
+
+import com.example.trainingprojectrestapi.model.QueryStatistics;
+import com.example.trainingprojectrestapi.util.QueryCountUtil;
+import org.hibernate.event.spi.AutoFlushEvent;
+import org.hibernate.event.spi.AutoFlushEventListener;
+import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.event.spi.FlushEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+/**
+ * Counts the entities loaded by Hibernate and the flushes it performs into the {@link QueryStatistics}
+ * of the current request. The SQL statements are counted at the JDBC level by {@link QueryCountingDataSource}.
+ */
+public class QueryCountingListener implements PostLoadEventListener, FlushEventListener, AutoFlushEventListener {
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        QueryCountUtil.count(QueryStatistics::countEntityLoad);
+    }
+
+    @Override
+    public void onFlush(FlushEvent event) {
+        QueryCountUtil.count(QueryStatistics::countFlush);
+    }
+
+    @Override
+    public void onAutoFlush(AutoFlushEvent event) {
+        if (event.isFlushRequired()) {
+            QueryCountUtil.count(QueryStatistics::countFlush);
+        }
+    }
+}
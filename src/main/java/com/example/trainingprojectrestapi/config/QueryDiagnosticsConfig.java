@@ -0,0 +1,75 @@
+package com.example.trainingprojectrestapi.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.QUERY_DIAGNOSTICS_PROPERTY;
+
+/**
+ * Diagnostic mode counting the SQL statements, entity loads and flushes of every request, enabled with
+ * {@code diagnostics.queries.enabled=true}. Meant for spotting query amplification such as N+1 selects,
+ * it is disabled by default.
+ */
+@Configuration
+@ConditionalOnProperty(name = QUERY_DIAGNOSTICS_PROPERTY, havingValue = "true")
+public class QueryDiagnosticsConfig {
+    private final QueryCountingListener queryCountingListener = new QueryCountingListener();
+
+    /**
+     * Wraps the data source so that every SQL statement executed through it is counted,
+     * whether issued by Hibernate or by {@code JdbcTemplate}.
+     *
+     * @return The post processor wrapping the data source.
+     */
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Appends the counting listener to the Hibernate entity load and flush events.
+     *
+     * @param entityManagerFactory The JPA entity manager factory.
+     * @return The callback registering the listener once the entity manager factory is initialized.
+     */
+    @Bean
+    public SmartInitializingSingleton queryCountingEventListeners(EntityManagerFactory entityManagerFactory) {
+        return () -> {
+            EventListenerRegistry listenerRegistry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getServiceRegistry().requireService(EventListenerRegistry.class);
+            listenerRegistry.appendListeners(EventType.POST_LOAD, queryCountingListener);
+            listenerRegistry.appendListeners(EventType.FLUSH, queryCountingListener);
+            listenerRegistry.appendListeners(EventType.AUTO_FLUSH, queryCountingListener);
+        };
+    }
+
+    /**
+     * Creates the filter counting the database activity of every request.
+     *
+     * @param meterRegistry The registry of the per-request metrics.
+     * @return The query diagnostics filter.
+     */
+    @Bean
+    public QueryDiagnosticsFilter queryDiagnosticsFilter(MeterRegistry meterRegistry) {
+        return new QueryDiagnosticsFilter(meterRegistry);
+    }
+}
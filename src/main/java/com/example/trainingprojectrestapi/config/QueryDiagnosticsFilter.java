@@ -0,0 +1,63 @@
+package com.example.trainingprojectrestapi.config;
+
+import com.example.trainingprojectrestapi.controller.QueryDiagnosticsResponseAdvice;
+import com.example.trainingprojectrestapi.model.QueryStatistics;
+import com.example.trainingprojectrestapi.util.QueryCountUtil;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.QUERY_ENTITIES_LOADED_HEADER;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.QUERY_ENTITIES_LOADED_SUMMARY;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.QUERY_FLUSHES_HEADER;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.QUERY_FLUSHES_SUMMARY;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.QUERY_STATEMENTS_HEADER;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.QUERY_STATEMENTS_SUMMARY;
+
+/**
+ * Counts the database activity of every request and records it as distribution summaries tagged by the
+ * request mapping. The counters are also returned as response headers, which are set by
+ * {@link QueryDiagnosticsResponseAdvice} right before a response body is written, and here for responses
+ * not committed yet once the request has been processed.
+ */
+@RequiredArgsConstructor
+public class QueryDiagnosticsFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        QueryStatistics statistics = QueryCountUtil.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCountUtil.stop();
+            if (!response.isCommitted()) {
+                response.setHeader(QUERY_STATEMENTS_HEADER, String.valueOf(statistics.getStatements()));
+                response.setHeader(QUERY_ENTITIES_LOADED_HEADER, String.valueOf(statistics.getEntitiesLoaded()));
+                response.setHeader(QUERY_FLUSHES_HEADER, String.valueOf(statistics.getFlushes()));
+            }
+            record(QUERY_STATEMENTS_SUMMARY, request, statistics.getStatements());
+            record(QUERY_ENTITIES_LOADED_SUMMARY, request, statistics.getEntitiesLoaded());
+            record(QUERY_FLUSHES_SUMMARY, request, statistics.getFlushes());
+        }
+    }
+
+    private void record(String name, HttpServletRequest request, long amount) {
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder(name)
+                .tag("uri", uri != null ? uri.toString() : "UNKNOWN")
+                .tag("method", request.getMethod())
+                .register(meterRegistry)
+                .record(amount);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.trainingprojectrestapi.config;
+
+import com.example.trainingprojectrestapi.controller.ReactiveOrderHandler;
+import com.example.trainingprojectrestapi.repository.ReactiveOrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.REACTIVE_ORDERS_PROPERTY;
+
+/**
+ * Reactive stack of the order read endpoints, WebFlux functional endpoints over R2DBC, enabled with
+ * {@code orders.reactive.enabled=true}. It runs side by side with the servlet endpoints, on its own port
+ * and connection pool, and shares the JSON configuration of the application.
+ */
+@Configuration
+@ConditionalOnProperty(name = REACTIVE_ORDERS_PROPERTY, havingValue = "true")
+public class ReactiveOrderConfig {
+
+    @Bean
+    public ReactiveOrderRepository reactiveOrderRepository(ReactiveOrderProperties properties) {
+        return new ReactiveOrderRepository(properties);
+    }
+
+    @Bean
+    public ReactiveOrderHandler reactiveOrderHandler(ReactiveOrderRepository reactiveOrderRepository) {
+        return new ReactiveOrderHandler(reactiveOrderRepository);
+    }
+
+    /**
+     * Creates the reactive server, routing the same paths as the servlet order endpoints.
+     *
+     * @param handler      The handler of the reactive order endpoints.
+     * @param properties   The reactive order configuration properties.
+     * @param objectMapper The application JSON mapper.
+     * @return The {@link ReactiveOrderServer}, started with the application context.
+     */
+    @Bean
+    public ReactiveOrderServer reactiveOrderServer(ReactiveOrderHandler handler, ReactiveOrderProperties properties,
+                                                   ObjectMapper objectMapper) {
+        RouterFunction<ServerResponse> routes = RouterFunctions.route()
+                .GET("/api/orders/{id}", handler::get)
+                .POST("/api/orders/_list", handler::findByCriteria)
+                .POST("/api/orders/_stream", handler::streamByCriteria)
+                .build();
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(configurer -> {
+                    configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+
+        return new ReactiveOrderServer(RouterFunctions.toHttpHandler(routes, strategies), properties.getPort());
+    }
+}
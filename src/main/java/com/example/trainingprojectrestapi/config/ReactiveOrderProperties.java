@@ -0,0 +1,36 @@
+package com.example.trainingprojectrestapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the reactive order read endpoints served over R2DBC.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "orders.reactive")
+public class ReactiveOrderProperties {
+    /**
+     * Whether the reactive server is started next to the servlet one.
+     */
+    private boolean enabled;
+    /**
+     * Port of the reactive server, {@code 0} for a random port.
+     */
+    private int port = 8081;
+    /**
+     * R2DBC URL of the orders database.
+     */
+    private String url;
+    private String username;
+    private String password;
+    /**
+     * Maximum number of pooled R2DBC connections.
+     */
+    private int maxPoolSize = 10;
+    /**
+     * Number of rows fetched from the database cursor per round trip when streaming orders.
+     */
+    private int fetchSize = 1000;
+}
@@ -0,0 +1,47 @@
+package com.example.trainingprojectrestapi.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Reactor Netty server running the reactive order endpoints on their own port, next to the servlet container.
+ * Requests are served by a few event-loop threads, which are never blocked by the database.
+ */
+@RequiredArgsConstructor
+public class ReactiveOrderServer implements SmartLifecycle {
+    private final HttpHandler httpHandler;
+    private final int port;
+    private volatile DisposableServer server;
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+    }
+
+    @Override
+    public void stop() {
+        server.disposeNow();
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Returns the port the server is bound to, which differs from the configured one when that is {@code 0}.
+     *
+     * @return The bound port.
+     */
+    public int getPort() {
+        return server.port();
+    }
+}
@@ -2,12 +2,16 @@ package com.example.trainingprojectrestapi.controller;
 
 import com.example.trainingprojectrestapi.dto.request.CustomerRequestDto;
 import com.example.trainingprojectrestapi.service.CustomerService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+
 /**
  * Controller class for handling customer-related operations.
  */
@@ -22,6 +26,20 @@ public class CustomerController {
         return ResponseEntity.status(HttpStatus.OK).body(customerService.getAllCustomers());
     }
 
+    @GetMapping("/_scroll")
+    public ResponseEntity<Object> scroll(@RequestParam(required = false, defaultValue = "10") short size,
+                                         @RequestParam(required = false) String cursor) {
+        return ResponseEntity.status(HttpStatus.OK).body(customerService.scrollCustomers(size, cursor));
+    }
+
+    @GetMapping("/_stream")
+    public void stream(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+
+        customerService.exportCustomers(response.getOutputStream());
+        response.flushBuffer();
+    }
+
     @PostMapping
     public ResponseEntity<Object> add(@RequestBody @Valid CustomerRequestDto dto) {
         return ResponseEntity.status(HttpStatus.CREATED).body(customerService.addCustomer(dto));
@@ -1,11 +1,15 @@
 package com.example.trainingprojectrestapi.controller;
 
+import com.example.trainingprojectrestapi.dto.request.OrderBulkDeleteRequestDto;
+import com.example.trainingprojectrestapi.dto.request.OrderBulkUpdateRequestDto;
 import com.example.trainingprojectrestapi.dto.request.OrderRequestDto;
+import com.example.trainingprojectrestapi.model.OrderSnapshot;
+import com.example.trainingprojectrestapi.service.ImportJobService;
 import com.example.trainingprojectrestapi.service.OrderService;
-import com.example.trainingprojectrestapi.util.FileOperationUtil;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.LocalDate;
 import java.util.Map;
 
 import static com.example.trainingprojectrestapi.util.ConstantsUtil.REPORT_FILE_NAME;
@@ -25,6 +30,7 @@ import static com.example.trainingprojectrestapi.util.ConstantsUtil.REPORT_FILE_
 @RequestMapping("/api/orders")
 public class OrderController {
     private final OrderService orderService;
+    private final ImportJobService importJobService;
 
     @PostMapping
     public ResponseEntity<Object> add(@RequestBody @Valid OrderRequestDto dto) {
@@ -33,7 +39,12 @@ public class OrderController {
 
     @GetMapping("/{id}")
     public ResponseEntity<Object> get(@PathVariable Long id) {
-        return ResponseEntity.status(HttpStatus.OK).body(orderService.getOrder(id));
+        OrderSnapshot order = orderService.getOrderSnapshot(id);
+        return ResponseEntity.status(HttpStatus.OK)
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(order.getEtag())
+                .lastModified(order.getLastModified())
+                .body(order.getBody());
     }
 
     @PutMapping("/{id}")
@@ -48,11 +59,44 @@ public class OrderController {
         return ResponseEntity.status(HttpStatus.OK).build();
     }
 
+    @PostMapping("/_bulk/update")
+    public ResponseEntity<Object> bulkUpdate(@RequestBody @Valid OrderBulkUpdateRequestDto dto) {
+        return ResponseEntity.status(HttpStatus.OK).body(orderService.updateOrders(dto));
+    }
+
+    @PostMapping("/_bulk/delete")
+    public ResponseEntity<Object> bulkDelete(@RequestBody @Valid OrderBulkDeleteRequestDto dto) {
+        return ResponseEntity.status(HttpStatus.OK).body(orderService.deleteOrders(dto));
+    }
+
     @PostMapping("/_list")
     public ResponseEntity<Object> findByCriteria(@RequestBody Map<String, Object> request,
                                                  @RequestParam(required = false, defaultValue = "10") short size,
-                                                 @RequestParam(required = false, defaultValue = "1") short page) {
-        return ResponseEntity.status(HttpStatus.OK).body(orderService.getOrdersByCriteria(request, size, page));
+                                                 @RequestParam(required = false, defaultValue = "1") short page,
+                                                 @RequestParam(required = false, defaultValue = "true") boolean count) {
+        return ResponseEntity.status(HttpStatus.OK).body(orderService.getOrdersByCriteria(request, size, page, count));
+    }
+
+    @PostMapping("/_scroll")
+    public ResponseEntity<Object> scrollByCriteria(@RequestBody Map<String, Object> request,
+                                                   @RequestParam(required = false, defaultValue = "10") short size,
+                                                   @RequestParam(required = false) String cursor) {
+        return ResponseEntity.status(HttpStatus.OK).body(orderService.scrollOrdersByCriteria(request, size, cursor));
+    }
+
+    @PostMapping("/_aggregate")
+    public ResponseEntity<Object> aggregateByCriteria(@RequestBody Map<String, Object> request,
+                                                      @RequestParam(required = false, defaultValue = "customer")
+                                                      String groupBy) {
+        return ResponseEntity.status(HttpStatus.OK).body(orderService.aggregateOrdersByCriteria(request, groupBy));
+    }
+
+    @PostMapping("/_rollup/rebuild")
+    public ResponseEntity<Object> rebuildRollup(@RequestParam(required = false)
+                                                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                @RequestParam(required = false)
+                                                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.status(HttpStatus.OK).body(orderService.rebuildRollup(from, to));
     }
 
     @PostMapping("/_report")
@@ -62,12 +106,21 @@ public class OrderController {
         response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
         response.setHeader("Content-Disposition", "attachment; filename=" + REPORT_FILE_NAME);
 
-        FileOperationUtil.exportToCSV(orderService.getOrdersByCriteria(request), response.getOutputStream());
+        orderService.exportOrdersByCriteria(request, response.getOutputStream());
         response.flushBuffer();
     }
 
     @PostMapping("/upload")
-    public ResponseEntity<Object> uploadOrders(@ModelAttribute MultipartFile file) {
+    public ResponseEntity<Object> uploadOrders(@ModelAttribute MultipartFile file,
+                                               @RequestParam(required = false, defaultValue = "false") boolean async) {
+        if (async) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(importJobService.submitImport(file));
+        }
         return ResponseEntity.status(HttpStatus.OK).body(orderService.processOrders(file));
     }
+
+    @GetMapping("/upload/{jobId}")
+    public ResponseEntity<Object> getImportJob(@PathVariable Long jobId) {
+        return ResponseEntity.status(HttpStatus.OK).body(importJobService.getImportJob(jobId));
+    }
 }
@@ -0,0 +1,46 @@
+package com.example.trainingprojectrestapi.controller;
+
+import com.example.trainingprojectrestapi.model.QueryStatistics;
+import com.example.trainingprojectrestapi.util.QueryCountUtil;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.QUERY_ENTITIES_LOADED_HEADER;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.QUERY_FLUSHES_HEADER;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.QUERY_STATEMENTS_HEADER;
+
+/**
+ * Adds the database activity counted so far to the headers of a response right before its body is written,
+ * since the message converters commit the response while writing it.
+ */
+@ControllerAdvice
+public class QueryDiagnosticsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, @NonNull MethodParameter returnType,
+                                  @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response) {
+        QueryStatistics statistics = QueryCountUtil.current();
+        if (statistics != null) {
+            HttpHeaders headers = response.getHeaders();
+            headers.set(QUERY_STATEMENTS_HEADER, String.valueOf(statistics.getStatements()));
+            headers.set(QUERY_ENTITIES_LOADED_HEADER, String.valueOf(statistics.getEntitiesLoaded()));
+            headers.set(QUERY_FLUSHES_HEADER, String.valueOf(statistics.getFlushes()));
+        }
+        return body;
+    }
+}
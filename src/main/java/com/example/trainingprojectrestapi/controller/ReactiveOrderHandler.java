@@ -0,0 +1,118 @@
+package com.example.trainingprojectrestapi.controller;
+
+import com.example.trainingprojectrestapi.dto.response.OrderResponseDto;
+import com.example.trainingprojectrestapi.exception.DataProcessingException;
+import com.example.trainingprojectrestapi.exception.ErrorDetails;
+import com.example.trainingprojectrestapi.model.OrderCriteria;
+import com.example.trainingprojectrestapi.model.PaginatedOrderResponse;
+import com.example.trainingprojectrestapi.repository.ReactiveOrderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Handler of the reactive order read endpoints. They mirror the servlet order endpoints, including the
+ * criteria semantics and the error responses, without blocking a thread while the database responds.
+ */
+@RequiredArgsConstructor
+public class ReactiveOrderHandler {
+    private static final ParameterizedTypeReference<Map<String, Object>> CRITERIA_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+    private final ReactiveOrderRepository reactiveOrderRepository;
+
+    public Mono<ServerResponse> get(ServerRequest request) {
+        return Mono.fromSupplier(() -> parseId(request.pathVariable("id")))
+                .flatMap(orderId -> reactiveOrderRepository.findWithCustomerById(orderId)
+                        .switchIfEmpty(Mono.error(() ->
+                                new DataProcessingException("Couldn't find order by id: " + orderId))))
+                .flatMap(order -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(order))
+                .onErrorResume(DataProcessingException.class, exception -> badRequest(exception, request));
+    }
+
+    public Mono<ServerResponse> findByCriteria(ServerRequest request) {
+        boolean count = Boolean.parseBoolean(request.queryParam("count").orElse("true"));
+
+        return Mono.zip(parseShort(request, "size", "10"), parseShort(request, "page", "1"), readCriteria(request))
+                .flatMap(params -> findPage(params.getT3(), params.getT1(), params.getT2(), count))
+                .flatMap(orders -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(orders))
+                .onErrorResume(DataProcessingException.class, exception -> badRequest(exception, request));
+    }
+
+    /**
+     * Streams all the orders matching the criteria as newline-delimited JSON. The response is written
+     * as fast as the client reads it, and the rows are fetched from the database at the same pace.
+     *
+     * @param request The request carrying the search criteria.
+     * @return The streamed response.
+     */
+    public Mono<ServerResponse> streamByCriteria(ServerRequest request) {
+        return readCriteria(request)
+                .flatMap(criteria -> ServerResponse.ok().contentType(MediaType.APPLICATION_NDJSON)
+                        .body(reactiveOrderRepository.streamAllAsDto(criteria), OrderResponseDto.class))
+                .onErrorResume(DataProcessingException.class, exception -> badRequest(exception, request));
+    }
+
+    private Mono<PaginatedOrderResponse> findPage(OrderCriteria criteria, short size, short page, boolean count) {
+        if (size < 1 || page < 1) {
+            return Mono.error(new DataProcessingException("Invalid page: " + page + ", size: " + size));
+        }
+        long offset = (long) (page - 1) * size;
+
+        if (!count) {
+            return reactiveOrderRepository.findAllAsDto(criteria, offset, size + 1).collectList()
+                    .map(orders -> PaginatedOrderResponse.builder()
+                            .page(page)
+                            .pageSize(size)
+                            .hasNext(orders.size() > size)
+                            .items(orders.size() > size ? orders.subList(0, size) : orders)
+                            .build());
+        }
+        return Mono.zip(reactiveOrderRepository.findAllAsDto(criteria, offset, size).collectList(),
+                        reactiveOrderRepository.count(criteria))
+                .map(result -> {
+                    long totalItems = result.getT2();
+                    int totalPages = (int) ((totalItems + size - 1) / size);
+                    return PaginatedOrderResponse.builder()
+                            .totalItems(totalItems)
+                            .page(page)
+                            .totalPages(totalPages)
+                            .pageSize(size)
+                            .hasNext(page < totalPages)
+                            .items(result.getT1())
+                            .build();
+                });
+    }
+
+    private Mono<OrderCriteria> readCriteria(ServerRequest request) {
+        return request.bodyToMono(CRITERIA_TYPE)
+                .switchIfEmpty(Mono.error(() -> new DataProcessingException("Missing search criteria")))
+                .map(OrderCriteria::from);
+    }
+
+    private Mono<Short> parseShort(ServerRequest request, String name, String defaultValue) {
+        String value = request.queryParam(name).orElse(defaultValue);
+        return Mono.fromCallable(() -> Short.valueOf(value))
+                .onErrorMap(NumberFormatException.class,
+                        ex -> new DataProcessingException("Invalid " + name + ": " + value));
+    }
+
+    private Long parseId(String id) {
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException ex) {
+            throw new DataProcessingException("Invalid order id: " + id);
+        }
+    }
+
+    private Mono<ServerResponse> badRequest(Throwable exception, ServerRequest request) {
+        return ServerResponse.badRequest().contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ErrorDetails(new Date(), exception.getMessage(), "uri=" + request.path()));
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.trainingprojectrestapi.dto.request;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk order delete: the orders selected by ids and/or search criteria are deleted.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBulkDeleteRequestDto {
+    private List<@NotNull @Positive Long> ids;
+
+    private Map<String, Object> criteria;
+}
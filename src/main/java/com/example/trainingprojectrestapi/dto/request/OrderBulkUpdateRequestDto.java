@@ -0,0 +1,34 @@
+package com.example.trainingprojectrestapi.dto.request;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk order update: the orders selected by ids and/or search criteria get every non-null field set.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBulkUpdateRequestDto {
+    private List<@NotNull @Positive Long> ids;
+
+    private Map<String, Object> criteria;
+
+    @PastOrPresent(message = "{validation.order.date.pastOrPresent}")
+    private LocalDate orderDate;
+
+    private Boolean statusPayment;
+
+    @Size(max = 255, message = "{validation.description.size}")
+    private String description;
+
+    @DecimalMin(value = "0.0", inclusive = false, message = "{validation.total.price.decimalMin}")
+    private BigDecimal totalPrice;
+}
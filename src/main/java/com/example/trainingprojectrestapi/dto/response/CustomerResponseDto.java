@@ -1,11 +1,18 @@
 package com.example.trainingprojectrestapi.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Setter
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor
 public class CustomerResponseDto {
+    @JsonIgnore
+    private Long id;
     private String firstName;
     private String lastName;
     private String phoneNumber;
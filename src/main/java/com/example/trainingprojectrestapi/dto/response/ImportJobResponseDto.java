@@ -0,0 +1,25 @@
+package com.example.trainingprojectrestapi.dto.response;
+
+import com.example.trainingprojectrestapi.entity.ImportJobStatus;
+import com.example.trainingprojectrestapi.model.ImportedResult;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ImportJobResponseDto {
+    private Long id;
+    private String fileName;
+    private ImportJobStatus status;
+    private int parsedOrders;
+    private int successfulImports;
+    private int failedImports;
+    private long rowsPerSecond;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private ImportedResult result;
+}
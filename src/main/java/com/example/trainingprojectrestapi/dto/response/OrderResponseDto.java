@@ -1,6 +1,9 @@
 package com.example.trainingprojectrestapi.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.math.BigDecimal;
@@ -8,7 +11,11 @@ import java.time.LocalDate;
 
 @Setter
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor
 public class OrderResponseDto {
+    @JsonIgnore
+    private Long id;
     private Long customerId;
     private LocalDate orderDate;
     private String description;
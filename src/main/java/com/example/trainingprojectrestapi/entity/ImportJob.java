@@ -0,0 +1,44 @@
+package com.example.trainingprojectrestapi.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@Table(name = "import_jobs")
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(name = "file_name")
+    private String fileName;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportJobStatus status;
+    @Column(name = "parsed_orders")
+    private int parsedOrders;
+    @Column(name = "successful_imports")
+    private int successfulImports;
+    @Column(name = "failed_imports")
+    private int failedImports;
+    @Column(name = "invalid_input_data")
+    private String invalidInputData;
+    @Column(name = "error_message")
+    private String errorMessage;
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+}
@@ -0,0 +1,11 @@
+package com.example.trainingprojectrestapi.entity;
+
+/**
+ * Lifecycle states of an asynchronous order import job.
+ */
+public enum ImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
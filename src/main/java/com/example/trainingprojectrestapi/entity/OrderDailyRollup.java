@@ -0,0 +1,37 @@
+package com.example.trainingprojectrestapi.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * The totals of the orders of one customer on one day.
+ * Rows are maintained with plain JDBC by the {@code OrderRollupRepository}, so the entity is read-only.
+ */
+@Data
+@Entity
+@Immutable
+@IdClass(OrderDailyRollupId.class)
+@Table(name = "order_daily_rollups")
+@NoArgsConstructor
+public class OrderDailyRollup {
+    @Id
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customer_id")
+    private Customer customer;
+    @Id
+    @Column(name = "order_date")
+    private LocalDate orderDate;
+    @Column(name = "order_count")
+    private long orderCount;
+    @Column(name = "total_price_sum")
+    private BigDecimal totalPriceSum;
+    @Column(name = "paid_count")
+    private long paidCount;
+    @Column(name = "paid_total_price_sum")
+    private BigDecimal paidTotalPriceSum;
+}
@@ -0,0 +1,19 @@
+package com.example.trainingprojectrestapi.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * The composite key of an {@link OrderDailyRollup}: a customer and a day.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderDailyRollupId implements Serializable {
+    private Long customer;
+    private LocalDate orderDate;
+}
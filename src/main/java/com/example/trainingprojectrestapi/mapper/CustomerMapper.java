@@ -0,0 +1,36 @@
+package com.example.trainingprojectrestapi.mapper;
+
+import com.example.trainingprojectrestapi.dto.request.CustomerRequestDto;
+import com.example.trainingprojectrestapi.dto.response.CustomerResponseDto;
+import com.example.trainingprojectrestapi.entity.Customer;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+/**
+ * Mapper interface for mapping {@link Customer} entities to DTOs and vice versa.
+ */
+@Mapper
+public interface CustomerMapper {
+    /**
+     * Singleton instance of the CustomerMapper.
+     */
+    CustomerMapper INSTANCE = Mappers.getMapper(CustomerMapper.class);
+
+    /**
+     * Maps a {@link Customer} entity to a {@link CustomerResponseDto}.
+     *
+     * @param customer The {@link Customer} entity to map.
+     * @return A {@link CustomerResponseDto} representing the mapped customer.
+     */
+    CustomerResponseDto mapCustomerToDto(Customer customer);
+
+    /**
+     * Maps a {@link CustomerRequestDto} to a new {@link Customer} entity.
+     *
+     * @param dto The {@link CustomerRequestDto} to map.
+     * @return A {@link Customer} entity without an id.
+     */
+    @Mapping(target = "id", ignore = true)
+    Customer mapDtoToCustomer(CustomerRequestDto dto);
+}
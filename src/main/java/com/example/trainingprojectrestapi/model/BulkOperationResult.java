@@ -0,0 +1,15 @@
+package com.example.trainingprojectrestapi.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * A data class representing the result of a bulk order update or delete.
+ */
+@Builder
+@Getter
+public class BulkOperationResult {
+    private int affectedOrders;
+    private int rebuiltBuckets;
+    private long durationMillis;
+}
@@ -0,0 +1,18 @@
+package com.example.trainingprojectrestapi.model;
+
+import com.example.trainingprojectrestapi.dto.response.CustomerResponseDto;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * A data class representing a cursor-based (keyset) slice of customers.
+ */
+@Builder
+@Getter
+public class CursorCustomerResponse {
+    private short pageSize;
+    private String nextCursor;
+    private List<CustomerResponseDto> items;
+}
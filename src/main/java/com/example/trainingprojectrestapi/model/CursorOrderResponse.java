@@ -0,0 +1,18 @@
+package com.example.trainingprojectrestapi.model;
+
+import com.example.trainingprojectrestapi.dto.response.OrderResponseDto;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * A data class representing a cursor-based (keyset) slice of orders.
+ */
+@Builder
+@Getter
+public class CursorOrderResponse {
+    private short pageSize;
+    private String nextCursor;
+    private List<OrderResponseDto> items;
+}
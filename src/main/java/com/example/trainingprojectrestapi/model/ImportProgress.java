@@ -0,0 +1,15 @@
+package com.example.trainingprojectrestapi.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * A data class representing the progress of a running import.
+ */
+@Builder
+@Getter
+public class ImportProgress {
+    private int parsedOrders;
+    private int successfulImports;
+    private int failedImports;
+}
@@ -14,4 +14,6 @@ public class ImportedResult {
     private int successfulImports;
     private int failedImports;
     private List<InvalidInputData> invalidInputData;
+    private long durationMillis;
+    private long rowsPerSecond;
 }
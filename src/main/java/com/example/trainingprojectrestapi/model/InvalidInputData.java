@@ -2,11 +2,13 @@ package com.example.trainingprojectrestapi.model;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 /**
  * A data class representing invalid input data.
  */
 @Builder
+@Jacksonized
 @Getter
 public class InvalidInputData {
     private String errorMessage;
@@ -0,0 +1,18 @@
+package com.example.trainingprojectrestapi.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * A data class representing the totals of one group of orders.
+ */
+@Builder
+@Getter
+public class OrderAggregate {
+    private Object key;
+    private long orderCount;
+    private BigDecimal totalPriceSum;
+    private BigDecimal totalPriceAvg;
+}
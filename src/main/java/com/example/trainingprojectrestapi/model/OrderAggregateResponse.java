@@ -0,0 +1,16 @@
+package com.example.trainingprojectrestapi.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * A data class representing the order totals grouped by the requested grouping.
+ */
+@Builder
+@Getter
+public class OrderAggregateResponse {
+    private String groupBy;
+    private List<OrderAggregate> items;
+}
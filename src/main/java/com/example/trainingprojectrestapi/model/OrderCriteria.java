@@ -0,0 +1,70 @@
+package com.example.trainingprojectrestapi.model;
+
+import com.example.trainingprojectrestapi.exception.DataProcessingException;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Typed order search criteria, parsed once from the request map.
+ * The shape, i.e. which criteria are present, identifies the compiled query plan,
+ * and the values are bound to its parameters.
+ */
+@Getter
+public class OrderCriteria {
+    private static final Map<String, OrderCriterion> CRITERIA_BY_KEY = Arrays.stream(OrderCriterion.values())
+            .collect(Collectors.toUnmodifiableMap(OrderCriterion::getKey, Function.identity()));
+
+    private final Set<OrderCriterion> shape;
+    private final Map<OrderCriterion, Object> values;
+
+    private OrderCriteria(Map<OrderCriterion, Object> values) {
+        Set<OrderCriterion> criteria = EnumSet.noneOf(OrderCriterion.class);
+        criteria.addAll(values.keySet());
+        this.shape = Collections.unmodifiableSet(criteria);
+        this.values = Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Parses the request criteria into typed values. Unknown keys and {@code null} values are ignored.
+     *
+     * @param criteria A {@link Map} containing the search criteria.
+     * @return The parsed {@link OrderCriteria}.
+     * @throws DataProcessingException If a criterion has a value of the wrong type or format.
+     */
+    public static OrderCriteria from(Map<String, Object> criteria) {
+        Map<OrderCriterion, Object> values = new EnumMap<>(OrderCriterion.class);
+        for (Map.Entry<String, Object> entry : criteria.entrySet()) {
+            OrderCriterion criterion = CRITERIA_BY_KEY.get(entry.getKey());
+            if (criterion != null && entry.getValue() != null) {
+                values.put(criterion, parse(criterion, entry.getValue()));
+            }
+        }
+        return new OrderCriteria(values);
+    }
+
+    /**
+     * Checks whether the given criterion is present.
+     *
+     * @param criterion The criterion to check.
+     * @return {@code true} if the criterion is present, {@code false} otherwise.
+     */
+    public boolean contains(OrderCriterion criterion) {
+        return shape.contains(criterion);
+    }
+
+    private static Object parse(OrderCriterion criterion, Object value) {
+        try {
+            return criterion.getParser().apply(value);
+        } catch (RuntimeException ex) {
+            throw new DataProcessingException("Invalid value of criterion " + criterion.getKey() + ": " + value);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.trainingprojectrestapi.model;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.*;
+
+/**
+ * The supported order search criteria. Each criterion knows its request key, how to parse its value
+ * and the predicates it compiles to, in HQL for the JPA repository and in SQL for the reactive one.
+ * Both predicates bind the parsed value to a parameter named after the request key. The SQL
+ * full-text predicate must stay identical to the {@code idx_orders_description_fts} index expression.
+ */
+@Getter
+public enum OrderCriterion {
+    CUSTOMER_ID(CUSTOMER_ID_KEY, "o.customer.id = :" + CUSTOMER_ID_KEY,
+            "o.customer_id = :" + CUSTOMER_ID_KEY,
+            value -> Long.valueOf(value.toString())),
+    CUSTOMER_IDS(CUSTOMER_IDS_KEY, "o.customer.id IN :" + CUSTOMER_IDS_KEY,
+            "o.customer_id IN (:" + CUSTOMER_IDS_KEY + ")",
+            OrderCriterion::parseIds),
+    ORDER_DATE(ORDER_DATE_KEY, "o.orderDate = :" + ORDER_DATE_KEY, "o.order_date = :" + ORDER_DATE_KEY,
+            value -> LocalDate.parse(value.toString())),
+    ORDER_DATE_FROM(ORDER_DATE_FROM_KEY, "o.orderDate >= :" + ORDER_DATE_FROM_KEY,
+            "o.order_date >= :" + ORDER_DATE_FROM_KEY,
+            value -> LocalDate.parse(value.toString())),
+    ORDER_DATE_TO(ORDER_DATE_TO_KEY, "o.orderDate <= :" + ORDER_DATE_TO_KEY,
+            "o.order_date <= :" + ORDER_DATE_TO_KEY,
+            value -> LocalDate.parse(value.toString())),
+    DESCRIPTION(DESCRIPTION_KEY, "o.description LIKE :" + DESCRIPTION_KEY,
+            "o.description LIKE :" + DESCRIPTION_KEY,
+            value -> "%" + value + "%"),
+    DESCRIPTION_SEARCH(DESCRIPTION_SEARCH_KEY,
+            DESCRIPTION_MATCHES_FUNCTION + "(o.description, :" + DESCRIPTION_SEARCH_KEY + ") = true",
+            "to_tsvector('english', coalesce(o.description, '')) @@ plainto_tsquery('english', :"
+                    + DESCRIPTION_SEARCH_KEY + ")",
+            Object::toString),
+    TOTAL_PRICE(TOTAL_PRICE_KEY, "o.totalPrice = :" + TOTAL_PRICE_KEY, "o.total_price = :" + TOTAL_PRICE_KEY,
+            value -> new BigDecimal(value.toString())),
+    TOTAL_PRICE_MIN(TOTAL_PRICE_MIN_KEY, "o.totalPrice >= :" + TOTAL_PRICE_MIN_KEY,
+            "o.total_price >= :" + TOTAL_PRICE_MIN_KEY,
+            value -> new BigDecimal(value.toString())),
+    TOTAL_PRICE_MAX(TOTAL_PRICE_MAX_KEY, "o.totalPrice <= :" + TOTAL_PRICE_MAX_KEY,
+            "o.total_price <= :" + TOTAL_PRICE_MAX_KEY,
+            value -> new BigDecimal(value.toString())),
+    STATUS_PAYMENT(STATUS_PAYMENT_KEY, "o.statusPayment = :" + STATUS_PAYMENT_KEY,
+            "o.status_payment = :" + STATUS_PAYMENT_KEY,
+            OrderCriterion::parseBoolean);
+
+    private final String key;
+    private final String predicate;
+    private final String sqlPredicate;
+    private final Function<Object, Object> parser;
+
+    OrderCriterion(String key, String predicate, String sqlPredicate, Function<Object, Object> parser) {
+        this.key = key;
+        this.predicate = predicate;
+        this.sqlPredicate = sqlPredicate;
+        this.parser = parser;
+    }
+
+    /**
+     * Parses a non-empty collection of ids. An empty collection is rejected, since {@code IN ()}
+     * is not valid SQL.
+     *
+     * @param value The collection of ids.
+     * @return The parsed ids.
+     */
+    private static List<Long> parseIds(Object value) {
+        Collection<?> ids = (Collection<?>) value;
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("No ids");
+        }
+        return ids.stream().map(id -> Long.valueOf(id.toString())).toList();
+    }
+
+    /**
+     * Parses a boolean given as a JSON boolean or as {@code "true"} or {@code "false"}, ignoring case.
+     * Any other value is rejected, unlike {@link Boolean#valueOf(String)}, which reads it as {@code false}.
+     *
+     * @param value The boolean value.
+     * @return The parsed boolean.
+     */
+    private static Boolean parseBoolean(Object value) {
+        if (value instanceof Boolean booleanValue) {
+            return booleanValue;
+        }
+        if (value instanceof String text && (text.equalsIgnoreCase("true") || text.equalsIgnoreCase("false"))) {
+            return Boolean.valueOf(text);
+        }
+        throw new IllegalArgumentException("Not a boolean: " + value);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.trainingprojectrestapi.model;
+
+import com.example.trainingprojectrestapi.exception.DataProcessingException;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.MONTH_START_FUNCTION;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.WEEK_START_FUNCTION;
+
+/**
+ * The supported groupings of the order aggregation. Each grouping knows its request key
+ * and the HQL expression the orders are grouped by.
+ */
+@Getter
+public enum OrderGrouping {
+    CUSTOMER("customer", "o.customer.id"),
+    DAY("day", "o.orderDate"),
+    WEEK("week", WEEK_START_FUNCTION + "(o.orderDate)"),
+    MONTH("month", MONTH_START_FUNCTION + "(o.orderDate)"),
+    STATUS_PAYMENT("statusPayment", "o.statusPayment");
+
+    private final String key;
+    private final String expression;
+
+    OrderGrouping(String key, String expression) {
+        this.key = key;
+        this.expression = expression;
+    }
+
+    /**
+     * Finds the grouping by its request key.
+     *
+     * @param key The request key of the grouping.
+     * @return The matching {@link OrderGrouping}.
+     * @throws DataProcessingException If no grouping has the given key.
+     */
+    public static OrderGrouping fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(grouping -> grouping.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new DataProcessingException("Unsupported grouping: " + key));
+    }
+}
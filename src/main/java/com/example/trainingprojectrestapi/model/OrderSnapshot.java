@@ -0,0 +1,18 @@
+package com.example.trainingprojectrestapi.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * A data class representing the cached representation of a single order:
+ * its serialized JSON body and the validators of conditional requests.
+ */
+@Builder
+@Getter
+public class OrderSnapshot {
+    private byte[] body;
+    private String etag;
+    private Instant lastModified;
+}
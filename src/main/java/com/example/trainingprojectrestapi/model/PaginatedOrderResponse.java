@@ -1,6 +1,7 @@
 package com.example.trainingprojectrestapi.model;
 
 import com.example.trainingprojectrestapi.dto.response.OrderResponseDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,13 +9,16 @@ import java.util.List;
 
 /**
  * A data class representing a paginated response for orders.
+ * The totals are omitted when the request skipped counting the matching orders.
  */
 @Builder
 @Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PaginatedOrderResponse {
-    private long totalItems;
+    private Long totalItems;
     private int page;
-    private int totalPages;
+    private Integer totalPages;
+    private boolean hasNext;
     private short pageSize;
     private List<OrderResponseDto> items;
 }
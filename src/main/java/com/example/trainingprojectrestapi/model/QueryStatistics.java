@@ -0,0 +1,25 @@
+package com.example.trainingprojectrestapi.model;
+
+import lombok.Getter;
+
+/**
+ * Database activity counted while serving a single request.
+ */
+@Getter
+public class QueryStatistics {
+    private long statements;
+    private long entitiesLoaded;
+    private long flushes;
+
+    public void countStatement() {
+        statements++;
+    }
+
+    public void countEntityLoad() {
+        entitiesLoaded++;
+    }
+
+    public void countFlush() {
+        flushes++;
+    }
+}
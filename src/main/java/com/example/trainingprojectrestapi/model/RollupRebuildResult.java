@@ -0,0 +1,14 @@
+package com.example.trainingprojectrestapi.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * A data class representing the result of rebuilding the daily order rollup.
+ */
+@Builder
+@Getter
+public class RollupRebuildResult {
+    private int rebuiltBuckets;
+    private long durationMillis;
+}
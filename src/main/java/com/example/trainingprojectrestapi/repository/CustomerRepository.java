@@ -1,11 +1,55 @@
 package com.example.trainingprojectrestapi.repository;
 
+import com.example.trainingprojectrestapi.dto.response.CustomerResponseDto;
 import com.example.trainingprojectrestapi.entity.Customer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.CUSTOMER_STREAM_FETCH_SIZE;
 
 /**
  * Spring Data JPA repository interface for managing {@link Customer} entities.
  * Provides methods for basic CRUD operations.
  */
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
+
+    /**
+     * Resolves which of the given customer ids exist with a single {@code IN} query.
+     *
+     * @param ids The customer ids to check.
+     * @return The subset of {@code ids} that belong to existing customers.
+     */
+    @Query("SELECT c.id FROM Customer c WHERE c.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retrieves the customers that follow the given id, ordered by id.
+     *
+     * @param afterId The id of the last customer of the previous slice.
+     * @param limit   The maximum number of customers to retrieve.
+     * @return A list of {@link Customer} entities.
+     */
+    List<Customer> findByIdGreaterThanOrderById(Long afterId, Limit limit);
+
+    /**
+     * Streams all customers ordered by id through a forward-only database cursor. The rows are projected
+     * straight into DTOs, so they are not kept in the persistence context while the stream is consumed.
+     * Must be called within a transaction, and the returned stream must be closed after use.
+     *
+     * @return A {@link Stream} of {@link CustomerResponseDto} projections.
+     */
+    @Query("SELECT new com.example.trainingprojectrestapi.dto.response.CustomerResponseDto("
+            + "c.id, c.firstName, c.lastName, c.phoneNumber, c.email) FROM Customer c ORDER BY c.id")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = CUSTOMER_STREAM_FETCH_SIZE))
+    Stream<CustomerResponseDto> streamAllAsDto();
 }
@@ -0,0 +1,70 @@
+package com.example.trainingprojectrestapi.repository;
+
+import com.example.trainingprojectrestapi.entity.ImportJob;
+import com.example.trainingprojectrestapi.entity.ImportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Spring Data JPA repository interface for managing {@link ImportJob} entities.
+ * Provides methods for basic CRUD operations and progress updates of running jobs.
+ */
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+    /**
+     * Updates the progress counters of a running job without loading it.
+     *
+     * @param id                The ID of the job.
+     * @param parsedOrders      The number of orders parsed so far.
+     * @param successfulImports The number of orders imported so far.
+     * @param failedImports     The number of orders rejected so far.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.parsedOrders = :parsedOrders, j.successfulImports = :successfulImports, "
+            + "j.failedImports = :failedImports WHERE j.id = :id")
+    void updateProgress(@Param("id") Long id, @Param("parsedOrders") int parsedOrders,
+                        @Param("successfulImports") int successfulImports,
+                        @Param("failedImports") int failedImports);
+
+    /**
+     * Renews the heartbeat of the given jobs that are still in one of the given states.
+     *
+     * @param ids         The IDs of the jobs.
+     * @param statuses    The states of the jobs to renew.
+     * @param heartbeatAt The time of the heartbeat.
+     * @return The number of renewed jobs.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.heartbeatAt = :heartbeatAt WHERE j.id IN :ids AND j.status IN :statuses")
+    int renewHeartbeats(@Param("ids") Collection<Long> ids,
+                        @Param("statuses") Collection<ImportJobStatus> statuses,
+                        @Param("heartbeatAt") LocalDateTime heartbeatAt);
+
+    /**
+     * Marks the jobs in one of the given states whose last heartbeat is older than the given time,
+     * or that have none, as failed.
+     *
+     * @param statuses     The states of the jobs to fail.
+     * @param staleBefore  The time before which the last heartbeat of the jobs to fail was sent.
+     * @param errorMessage The reason stored on the failed jobs.
+     * @param finishedAt   The time the jobs are marked as finished.
+     * @return The number of failed jobs.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.status = com.example.trainingprojectrestapi.entity.ImportJobStatus.FAILED, "
+            + "j.errorMessage = :errorMessage, j.finishedAt = :finishedAt "
+            + "WHERE j.status IN :statuses AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)")
+    int failStaleJobs(@Param("statuses") Collection<ImportJobStatus> statuses,
+                      @Param("staleBefore") LocalDateTime staleBefore,
+                      @Param("errorMessage") String errorMessage,
+                      @Param("finishedAt") LocalDateTime finishedAt);
+}
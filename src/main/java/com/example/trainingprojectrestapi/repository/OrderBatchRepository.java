@@ -0,0 +1,163 @@
+package com.example.trainingprojectrestapi.repository;
+
+import com.example.trainingprojectrestapi.config.OrderImportProperties;
+import com.example.trainingprojectrestapi.dto.request.OrderBulkUpdateRequestDto;
+import com.example.trainingprojectrestapi.dto.request.OrderRequestDto;
+import com.example.trainingprojectrestapi.model.OrderCriteria;
+import com.example.trainingprojectrestapi.model.OrderCriterion;
+import com.example.trainingprojectrestapi.repository.OrderRollupRepository.BucketKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JDBC repository for bulk order writes.
+ * Hibernate can't batch inserts of {@code IDENTITY} entities, so imported orders are written
+ * with plain JDBC batches and get their ids from the {@code orders.id} column default.
+ * Bulk updates and deletes run as a single set-based statement over the selected orders, which
+ * returns the affected rollup buckets instead of the affected rows.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderBatchRepository {
+    private static final String INSERT_ORDER_SQL = "INSERT INTO orders "
+            + "(customer_id, order_date, status_payment, description, total_price) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_ORDERS_SQL = "WITH changed AS (UPDATE orders o SET %s "
+            + "FROM orders old WHERE old.id = o.id AND %s "
+            + "RETURNING o.customer_id, old.order_date AS old_order_date, o.order_date) "
+            + "SELECT customer_id, old_order_date, order_date, count(*) AS affected FROM changed "
+            + "GROUP BY customer_id, old_order_date, order_date";
+    private static final String DELETE_ORDERS_SQL = "WITH changed AS (DELETE FROM orders o WHERE %s "
+            + "RETURNING o.customer_id, o.order_date) "
+            + "SELECT customer_id, order_date AS old_order_date, order_date, count(*) AS affected FROM changed "
+            + "GROUP BY customer_id, order_date";
+    private static final String IDS_PARAMETER = "ids";
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final OrderImportProperties importProperties;
+
+    /**
+     * Inserts the given orders in JDBC batches of {@code orders.import.batch-size} statements.
+     *
+     * @param orders The validated orders to insert.
+     * @return The number of inserted orders.
+     */
+    @Transactional
+    public int saveAll(List<OrderRequestDto> orders) {
+        jdbcTemplate.batchUpdate(INSERT_ORDER_SQL, orders, importProperties.getBatchSize(), (ps, order) -> {
+            ps.setLong(1, order.getCustomerId());
+            ps.setDate(2, Date.valueOf(order.getOrderDate()));
+            ps.setBoolean(3, order.getStatusPayment());
+            ps.setString(4, order.getDescription());
+            ps.setBigDecimal(5, order.getTotalPrice());
+        });
+        return orders.size();
+    }
+
+    /**
+     * Sets the non-null fields of the update on every selected order with a single statement,
+     * incrementing their version.
+     *
+     * @param ids      The ids of the orders to update, or {@code null} to select by criteria only.
+     * @param criteria The {@link OrderCriteria} the orders to update must match.
+     * @param update   The fields to set.
+     * @return The number of updated orders and their rollup buckets before and after the update.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public BulkChange updateAll(List<Long> ids, OrderCriteria criteria, OrderBulkUpdateRequestDto update) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        List<String> assignments = new ArrayList<>();
+        addAssignment(assignments, parameters, "order_date", "newOrderDate", update.getOrderDate());
+        addAssignment(assignments, parameters, "status_payment", "newStatusPayment", update.getStatusPayment());
+        addAssignment(assignments, parameters, "description", "newDescription", update.getDescription());
+        addAssignment(assignments, parameters, "total_price", "newTotalPrice", update.getTotalPrice());
+        assignments.add("version = o.version + 1");
+        assignments.add("updated_at = now()");
+
+        String predicate = buildPredicate(ids, criteria, parameters);
+        return execute(String.format(UPDATE_ORDERS_SQL, String.join(", ", assignments), predicate), parameters);
+    }
+
+    /**
+     * Deletes every selected order with a single statement.
+     *
+     * @param ids      The ids of the orders to delete, or {@code null} to select by criteria only.
+     * @param criteria The {@link OrderCriteria} the orders to delete must match.
+     * @return The number of deleted orders and their rollup buckets.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public BulkChange deleteAll(List<Long> ids, OrderCriteria criteria) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        String predicate = buildPredicate(ids, criteria, parameters);
+        return execute(String.format(DELETE_ORDERS_SQL, predicate), parameters);
+    }
+
+    private BulkChange execute(String sql, MapSqlParameterSource parameters) {
+        List<ChangedBuckets> changes = namedParameterJdbcTemplate.query(sql, parameters, (rs, rowNum) -> {
+            long customerId = rs.getLong("customer_id");
+            return new ChangedBuckets(
+                    new BucketKey(customerId, rs.getDate("old_order_date").toLocalDate()),
+                    new BucketKey(customerId, rs.getDate("order_date").toLocalDate()),
+                    rs.getInt("affected"));
+        });
+
+        Set<BucketKey> buckets = new HashSet<>();
+        changes.forEach(change -> {
+            buckets.add(change.before());
+            buckets.add(change.after());
+        });
+        return new BulkChange(changes.stream().mapToInt(ChangedBuckets::affectedOrders).sum(), buckets);
+    }
+
+    private void addAssignment(List<String> assignments, MapSqlParameterSource parameters, String column,
+                               String parameter, Object value) {
+        if (value != null) {
+            assignments.add(column + " = :" + parameter);
+            parameters.addValue(parameter, value);
+        }
+    }
+
+    /**
+     * Builds the predicate selecting the orders by id and by the {@link OrderCriterion} SQL predicates,
+     * and binds their values.
+     *
+     * @param ids        The ids of the selected orders, or {@code null}.
+     * @param criteria   The {@link OrderCriteria} the selected orders must match.
+     * @param parameters The parameters to bind the values to.
+     * @return The SQL predicate.
+     */
+    private String buildPredicate(List<Long> ids, OrderCriteria criteria, MapSqlParameterSource parameters) {
+        List<String> predicates = new ArrayList<>();
+        if (ids != null) {
+            predicates.add("o.id IN (:" + IDS_PARAMETER + ")");
+            parameters.addValue(IDS_PARAMETER, ids);
+        }
+        criteria.getValues().forEach((criterion, value) -> {
+            predicates.add(criterion.getSqlPredicate());
+            parameters.addValue(criterion.getKey(), value);
+        });
+        return String.join(" AND ", predicates);
+    }
+
+    /**
+     * The outcome of a bulk update or delete.
+     *
+     * @param affectedOrders The number of updated or deleted orders.
+     * @param buckets        The rollup buckets of the orders, before and after the change.
+     */
+    public record BulkChange(int affectedOrders, Set<BucketKey> buckets) {
+    }
+
+    private record ChangedBuckets(BucketKey before, BucketKey after, int affectedOrders) {
+    }
+}
@@ -1,12 +1,25 @@
 package com.example.trainingprojectrestapi.repository;
 
 import com.example.trainingprojectrestapi.entity.Order;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.Optional;
+
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.CUSTOMER_JOIN_PROPERTY;
 
 /**
  * Spring Data JPA repository interface for managing {@link Order} entities.
- * Provides methods for basic CRUD operations and executing specifications.
+ * Provides methods for basic CRUD operations and criteria queries.
  */
-public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
+
+    /**
+     * Retrieves an order together with its customer in a single query.
+     *
+     * @param id The ID of the order to retrieve.
+     * @return The {@link Order} with its customer loaded, if it exists.
+     */
+    @EntityGraph(attributePaths = CUSTOMER_JOIN_PROPERTY)
+    Optional<Order> findWithCustomerById(Long id);
 }
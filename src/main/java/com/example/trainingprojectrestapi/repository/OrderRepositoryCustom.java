@@ -0,0 +1,70 @@
+package com.example.trainingprojectrestapi.repository;
+
+import com.example.trainingprojectrestapi.dto.response.OrderResponseDto;
+import com.example.trainingprojectrestapi.entity.Order;
+import com.example.trainingprojectrestapi.model.OrderAggregate;
+import com.example.trainingprojectrestapi.model.OrderCriteria;
+import com.example.trainingprojectrestapi.model.OrderGrouping;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Custom query methods of the {@link OrderRepository} that are not covered by Spring Data.
+ * The methods project the {@code orders} columns straight into {@link OrderResponseDto} objects,
+ * without hydrating {@link Order} or customer entities.
+ */
+public interface OrderRepositoryCustom {
+
+    /**
+     * Retrieves a page of orders matching the criteria, ordered by relevance when searching and by id.
+     *
+     * @param criteria The {@link OrderCriteria} the orders must match.
+     * @param pageable The requested page.
+     * @return A {@link Page} of {@link OrderResponseDto} projections.
+     */
+    Page<OrderResponseDto> findAllAsDto(OrderCriteria criteria, Pageable pageable);
+
+    /**
+     * Retrieves a slice of orders matching the criteria, without counting all matches.
+     *
+     * @param criteria The {@link OrderCriteria} the orders must match.
+     * @param pageable The requested page.
+     * @return A {@link Slice} of {@link OrderResponseDto} projections.
+     */
+    Slice<OrderResponseDto> findSliceAsDto(OrderCriteria criteria, Pageable pageable);
+
+    /**
+     * Retrieves the orders matching the criteria that follow the given id, ordered by id.
+     * The seek predicate on the primary key makes every slice cost the same, however deep it is.
+     *
+     * @param criteria The {@link OrderCriteria} the orders must match.
+     * @param afterId  The id of the last order of the previous slice, or {@code null} for the first slice.
+     * @param limit    The maximum number of orders to retrieve.
+     * @return A list of {@link OrderResponseDto} projections.
+     */
+    List<OrderResponseDto> findAllAsDtoAfter(OrderCriteria criteria, Long afterId, int limit);
+
+    /**
+     * Streams the orders matching the criteria through a forward-only database cursor.
+     * Must be called within a transaction, and the returned stream must be closed after use.
+     *
+     * @param criteria  The {@link OrderCriteria} the orders must match.
+     * @param fetchSize The number of rows fetched from the cursor per round trip.
+     * @return A {@link Stream} of {@link OrderResponseDto} projections.
+     */
+    Stream<OrderResponseDto> streamAllAsDto(OrderCriteria criteria, int fetchSize);
+
+    /**
+     * Computes the number, sum and average total price of the orders matching the criteria,
+     * grouped by the given grouping, in a single {@code GROUP BY} query.
+     *
+     * @param criteria The {@link OrderCriteria} the orders must match.
+     * @param grouping The {@link OrderGrouping} of the orders.
+     * @return A list of {@link OrderAggregate} ordered by the group key.
+     */
+    List<OrderAggregate> aggregate(OrderCriteria criteria, OrderGrouping grouping);
+}
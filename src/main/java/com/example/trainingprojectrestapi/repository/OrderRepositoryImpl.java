@@ -0,0 +1,275 @@
+package com.example.trainingprojectrestapi.repository;
+
+import com.example.trainingprojectrestapi.dto.response.OrderResponseDto;
+import com.example.trainingprojectrestapi.entity.Order;
+import com.example.trainingprojectrestapi.entity.OrderDailyRollup;
+import com.example.trainingprojectrestapi.model.OrderAggregate;
+import com.example.trainingprojectrestapi.model.OrderCriteria;
+import com.example.trainingprojectrestapi.model.OrderCriterion;
+import com.example.trainingprojectrestapi.model.OrderGrouping;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.DESCRIPTION_RANK_FUNCTION;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.DESCRIPTION_SEARCH_KEY;
+
+/**
+ * Implementation of the {@link OrderRepositoryCustom} query methods.
+ * Queries are compiled once per criteria shape and query kind and cached. Every request only binds
+ * its values, and Hibernate reuses the parsed and translated plan it keeps for the same query string.
+ * Aggregations that only filter by customer, date and payment status and do not group by payment status
+ * are answered from the {@code order_daily_rollups} table instead of the orders.
+ */
+public class OrderRepositoryImpl implements OrderRepositoryCustom {
+    private static final String SELECT_DTO = "SELECT new " + OrderResponseDto.class.getName()
+            + "(o.id, o.customer.id, o.orderDate, o.description, o.totalPrice) FROM " + Order.class.getName() + " o";
+    private static final String SELECT_COUNT = "SELECT count(o) FROM " + Order.class.getName() + " o";
+    private static final String AFTER_ID_PARAMETER = "afterId";
+    private static final String RANK_ORDER = DESCRIPTION_RANK_FUNCTION
+            + "(o.description, :" + DESCRIPTION_SEARCH_KEY + ") DESC";
+    private static final Set<OrderCriterion> ROLLUP_CRITERIA = EnumSet.of(OrderCriterion.CUSTOMER_ID,
+            OrderCriterion.CUSTOMER_IDS, OrderCriterion.ORDER_DATE, OrderCriterion.ORDER_DATE_FROM,
+            OrderCriterion.ORDER_DATE_TO, OrderCriterion.STATUS_PAYMENT);
+    private final ConcurrentMap<QueryPlanKey, String> queryPlans = new ConcurrentHashMap<>();
+    private final ConcurrentMap<AggregatePlanKey, String> aggregatePlans = new ConcurrentHashMap<>();
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<OrderResponseDto> findAllAsDto(OrderCriteria criteria, Pageable pageable) {
+        List<OrderResponseDto> content = createQuery(QueryKind.PAGE, criteria, OrderResponseDto.class)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> createQuery(QueryKind.COUNT, criteria, Long.class).getSingleResult());
+    }
+
+    @Override
+    public Slice<OrderResponseDto> findSliceAsDto(OrderCriteria criteria, Pageable pageable) {
+        List<OrderResponseDto> content = createQuery(QueryKind.PAGE, criteria, OrderResponseDto.class)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+        boolean hasNext = content.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    @Override
+    public List<OrderResponseDto> findAllAsDtoAfter(OrderCriteria criteria, Long afterId, int limit) {
+        return createQuery(QueryKind.SCROLL, criteria, OrderResponseDto.class)
+                .setParameter(AFTER_ID_PARAMETER, afterId == null ? 0L : afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<OrderResponseDto> streamAllAsDto(OrderCriteria criteria, int fetchSize) {
+        return createQuery(QueryKind.STREAM, criteria, OrderResponseDto.class)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    @Override
+    public List<OrderAggregate> aggregate(OrderCriteria criteria, OrderGrouping grouping) {
+        AggregateSource source = selectAggregateSource(criteria, grouping);
+        String queryPlan = aggregatePlans.computeIfAbsent(new AggregatePlanKey(grouping, source, criteria.getShape()),
+                this::compileAggregatePlan);
+
+        TypedQuery<Tuple> query = entityManager.createQuery(queryPlan, Tuple.class);
+        criteria.getValues().forEach((criterion, value) -> {
+            if (source == AggregateSource.ORDERS || criterion != OrderCriterion.STATUS_PAYMENT) {
+                query.setParameter(criterion.getKey(), value);
+            }
+        });
+        return query.getResultList().stream()
+                .map(this::toAggregate)
+                .toList();
+    }
+
+    /**
+     * Creates a query from the cached plan of the criteria shape and binds the criteria values.
+     *
+     * @param kind       The kind of query to create.
+     * @param criteria   The {@link OrderCriteria} the orders must match.
+     * @param resultType The type of the query results.
+     * @param <T>        The type of the query results.
+     * @return A {@link TypedQuery} ready to be executed.
+     */
+    private <T> TypedQuery<T> createQuery(QueryKind kind, OrderCriteria criteria, Class<T> resultType) {
+        String queryPlan = queryPlans.computeIfAbsent(new QueryPlanKey(kind, criteria.getShape()),
+                this::compileQueryPlan);
+
+        TypedQuery<T> query = entityManager.createQuery(queryPlan, resultType);
+        criteria.getValues().forEach((criterion, value) -> query.setParameter(criterion.getKey(), value));
+        return query;
+    }
+
+    /**
+     * Compiles the query of a criteria shape. Searching by description orders by relevance,
+     * except for keyset slices, which must be ordered by id only.
+     *
+     * @param key The query kind and criteria shape.
+     * @return The compiled HQL query.
+     */
+    private String compileQueryPlan(QueryPlanKey key) {
+        List<String> predicates = buildPredicates(key.shape());
+        if (key.kind() == QueryKind.SCROLL) {
+            predicates.add("o.id > :" + AFTER_ID_PARAMETER);
+        }
+
+        List<String> orders = new ArrayList<>();
+        boolean rankOrder = key.shape().contains(OrderCriterion.DESCRIPTION_SEARCH);
+        if (rankOrder && (key.kind() == QueryKind.PAGE || key.kind() == QueryKind.STREAM)) {
+            orders.add(RANK_ORDER);
+        }
+        if (key.kind() == QueryKind.PAGE || key.kind() == QueryKind.SCROLL) {
+            orders.add("o.id");
+        }
+
+        StringBuilder query = new StringBuilder(key.kind() == QueryKind.COUNT ? SELECT_COUNT : SELECT_DTO);
+        if (!predicates.isEmpty()) {
+            query.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+        if (!orders.isEmpty()) {
+            query.append(" ORDER BY ").append(String.join(", ", orders));
+        }
+        return query.toString();
+    }
+
+    /**
+     * Selects the table an aggregation is answered from. The rollup keeps the paid totals apart,
+     * so a payment status filter selects its columns instead of becoming a predicate.
+     *
+     * @param criteria The {@link OrderCriteria} the orders must match.
+     * @param grouping The {@link OrderGrouping} of the orders.
+     * @return The {@link AggregateSource} of the aggregation.
+     */
+    private AggregateSource selectAggregateSource(OrderCriteria criteria, OrderGrouping grouping) {
+        if (grouping == OrderGrouping.STATUS_PAYMENT || !ROLLUP_CRITERIA.containsAll(criteria.getShape())) {
+            return AggregateSource.ORDERS;
+        }
+        if (!criteria.contains(OrderCriterion.STATUS_PAYMENT)) {
+            return AggregateSource.ROLLUP;
+        }
+        return Boolean.TRUE.equals(criteria.getValues().get(OrderCriterion.STATUS_PAYMENT))
+                ? AggregateSource.ROLLUP_PAID
+                : AggregateSource.ROLLUP_UNPAID;
+    }
+
+    /**
+     * Compiles the aggregation query of a grouping, source and criteria shape.
+     * The average is derived from the sum and count, so it keeps the scale of the prices.
+     *
+     * @param key The grouping, source and criteria shape.
+     * @return The compiled HQL query.
+     */
+    private String compileAggregatePlan(AggregatePlanKey key) {
+        AggregateSource source = key.source();
+        String expression = key.grouping().getExpression();
+        List<String> predicates = buildPredicates(key.shape());
+        if (source != AggregateSource.ORDERS) {
+            predicates.remove(OrderCriterion.STATUS_PAYMENT.getPredicate());
+        }
+
+        StringBuilder query = new StringBuilder("SELECT ").append(expression)
+                .append(", ").append(source.getCount()).append(", ").append(source.getSum())
+                .append(" FROM ").append(source.getEntityName()).append(" o");
+        if (!predicates.isEmpty()) {
+            query.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+        query.append(" GROUP BY ").append(expression);
+        if (source == AggregateSource.ROLLUP_PAID || source == AggregateSource.ROLLUP_UNPAID) {
+            query.append(" HAVING ").append(source.getCount()).append(" > 0");
+        }
+        query.append(" ORDER BY ").append(expression);
+        return query.toString();
+    }
+
+    private List<String> buildPredicates(Set<OrderCriterion> shape) {
+        List<String> predicates = new ArrayList<>();
+        shape.forEach(criterion -> predicates.add(criterion.getPredicate()));
+        return predicates;
+    }
+
+    private OrderAggregate toAggregate(Tuple tuple) {
+        long orderCount = ((Number) tuple.get(1)).longValue();
+        BigDecimal totalPriceSum = tuple.get(2, BigDecimal.class);
+
+        return OrderAggregate.builder()
+                .key(tuple.get(0))
+                .orderCount(orderCount)
+                .totalPriceSum(totalPriceSum)
+                .totalPriceAvg(totalPriceSum.divide(BigDecimal.valueOf(orderCount),
+                        totalPriceSum.scale(), RoundingMode.HALF_UP))
+                .build();
+    }
+
+    /**
+     * The kinds of order queries, which differ in their selection, ordering and seek predicate.
+     */
+    private enum QueryKind {
+        PAGE,
+        SCROLL,
+        STREAM,
+        COUNT
+    }
+
+    /**
+     * The cache key of a compiled query.
+     *
+     * @param kind  The kind of query.
+     * @param shape The criteria present in the request.
+     */
+    private record QueryPlanKey(QueryKind kind, Set<OrderCriterion> shape) {
+    }
+
+    /**
+     * The tables an aggregation can be answered from, with the count and sum they select.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private enum AggregateSource {
+        ORDERS(Order.class.getName(), "count(o)", "sum(o.totalPrice)"),
+        ROLLUP(OrderDailyRollup.class.getName(), "sum(o.orderCount)", "sum(o.totalPriceSum)"),
+        ROLLUP_PAID(OrderDailyRollup.class.getName(), "sum(o.paidCount)", "sum(o.paidTotalPriceSum)"),
+        ROLLUP_UNPAID(OrderDailyRollup.class.getName(), "sum(o.orderCount - o.paidCount)",
+                "sum(o.totalPriceSum - o.paidTotalPriceSum)");
+
+        private final String entityName;
+        private final String count;
+        private final String sum;
+    }
+
+    /**
+     * The cache key of a compiled aggregation query.
+     *
+     * @param grouping The grouping of the orders.
+     * @param source   The table the aggregation is answered from.
+     * @param shape    The criteria present in the request.
+     */
+    private record AggregatePlanKey(OrderGrouping grouping, AggregateSource source, Set<OrderCriterion> shape) {
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.trainingprojectrestapi.repository;
+
+import com.example.trainingprojectrestapi.config.OrderImportProperties;
+import com.example.trainingprojectrestapi.dto.request.OrderRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JDBC repository maintaining the {@code order_daily_rollups} table.
+ * Every order change is applied as a delta to the bucket of its customer and day with an upsert,
+ * so the rollup stays consistent with the {@code orders} table within the same transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderRollupRepository {
+    private static final String UPSERT_BUCKET_SQL = "INSERT INTO order_daily_rollups "
+            + "(customer_id, order_date, order_count, total_price_sum, paid_count, paid_total_price_sum) "
+            + "VALUES (?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (customer_id, order_date) DO UPDATE SET "
+            + "order_count = order_daily_rollups.order_count + EXCLUDED.order_count, "
+            + "total_price_sum = order_daily_rollups.total_price_sum + EXCLUDED.total_price_sum, "
+            + "paid_count = order_daily_rollups.paid_count + EXCLUDED.paid_count, "
+            + "paid_total_price_sum = order_daily_rollups.paid_total_price_sum + EXCLUDED.paid_total_price_sum";
+    private static final String DELETE_EMPTY_BUCKET_SQL = "DELETE FROM order_daily_rollups "
+            + "WHERE customer_id = ? AND order_date = ? AND order_count = 0";
+    private static final String LOCK_ROLLUPS_SQL = "LOCK TABLE order_daily_rollups IN EXCLUSIVE MODE";
+    private static final String DELETE_BUCKETS_SQL = "DELETE FROM order_daily_rollups "
+            + "WHERE (CAST(? AS DATE) IS NULL OR order_date >= ?) AND (CAST(? AS DATE) IS NULL OR order_date <= ?)";
+    private static final String INSERT_BUCKETS_SQL = "INSERT INTO order_daily_rollups "
+            + "(customer_id, order_date, order_count, total_price_sum, paid_count, paid_total_price_sum) "
+            + "SELECT customer_id, order_date, count(*), sum(total_price), count(*) FILTER (WHERE status_payment), "
+            + "coalesce(sum(total_price) FILTER (WHERE status_payment), 0) FROM orders "
+            + "WHERE (CAST(? AS DATE) IS NULL OR order_date >= ?) AND (CAST(? AS DATE) IS NULL OR order_date <= ?) "
+            + "GROUP BY customer_id, order_date";
+    private static final String DELETE_BUCKET_SQL = "DELETE FROM order_daily_rollups "
+            + "WHERE customer_id = ? AND order_date = ?";
+    private static final String INSERT_BUCKET_SQL = "INSERT INTO order_daily_rollups "
+            + "(customer_id, order_date, order_count, total_price_sum, paid_count, paid_total_price_sum) "
+            + "SELECT customer_id, order_date, count(*), sum(total_price), count(*) FILTER (WHERE status_payment), "
+            + "coalesce(sum(total_price) FILTER (WHERE status_payment), 0) FROM orders "
+            + "WHERE customer_id = ? AND order_date = ? GROUP BY customer_id, order_date";
+    private static final Comparator<BucketKey> BUCKET_ORDER = Comparator.comparing(BucketKey::customerId)
+            .thenComparing(BucketKey::orderDate);
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderImportProperties importProperties;
+
+    /**
+     * Adds an order to the bucket of its customer and day.
+     *
+     * @param customerId    The customer id of the order.
+     * @param orderDate     The date of the order.
+     * @param statusPayment The payment status of the order.
+     * @param totalPrice    The total price of the order.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(Long customerId, LocalDate orderDate, boolean statusPayment, BigDecimal totalPrice) {
+        applyDelta(customerId, orderDate, new BucketDelta().add(statusPayment, totalPrice, 1));
+    }
+
+    /**
+     * Removes an order from the bucket of its customer and day, deleting the bucket once it is empty.
+     *
+     * @param customerId    The customer id of the order.
+     * @param orderDate     The date of the order.
+     * @param statusPayment The payment status of the order.
+     * @param totalPrice    The total price of the order.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void subtract(Long customerId, LocalDate orderDate, boolean statusPayment, BigDecimal totalPrice) {
+        applyDelta(customerId, orderDate, new BucketDelta().add(statusPayment, totalPrice, -1));
+        jdbcTemplate.update(DELETE_EMPTY_BUCKET_SQL, customerId, Date.valueOf(orderDate));
+    }
+
+    /**
+     * Moves an order from the bucket of its old values to the bucket of its new values, deleting the old
+     * bucket once it is empty. Both deltas are merged per bucket and upserted in key order, so concurrent
+     * updates moving orders between the same buckets in opposite directions cannot deadlock.
+     *
+     * @param oldCustomerId    The customer id of the order before the change.
+     * @param oldOrderDate     The date of the order before the change.
+     * @param oldStatusPayment The payment status of the order before the change.
+     * @param oldTotalPrice    The total price of the order before the change.
+     * @param order            The new values of the order.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void move(Long oldCustomerId, LocalDate oldOrderDate, boolean oldStatusPayment, BigDecimal oldTotalPrice,
+                     OrderRequestDto order) {
+        Map<BucketKey, BucketDelta> deltas = new TreeMap<>(BUCKET_ORDER);
+        deltas.computeIfAbsent(new BucketKey(oldCustomerId, oldOrderDate), key -> new BucketDelta())
+                .add(oldStatusPayment, oldTotalPrice, -1);
+        deltas.computeIfAbsent(new BucketKey(order.getCustomerId(), order.getOrderDate()), key -> new BucketDelta())
+                .add(order.getStatusPayment(), order.getTotalPrice(), 1);
+
+        deltas.forEach((key, delta) -> applyDelta(key.customerId(), key.orderDate(), delta));
+        jdbcTemplate.update(DELETE_EMPTY_BUCKET_SQL, oldCustomerId, Date.valueOf(oldOrderDate));
+    }
+
+    /**
+     * Adds the given orders to their buckets. The orders are summed per bucket first, so every bucket
+     * is upserted once, and the buckets are upserted in key order to avoid deadlocks between
+     * concurrent imports.
+     *
+     * @param orders The inserted orders.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addAll(List<OrderRequestDto> orders) {
+        Map<BucketKey, BucketDelta> deltas = new TreeMap<>(BUCKET_ORDER);
+        for (OrderRequestDto order : orders) {
+            deltas.computeIfAbsent(new BucketKey(order.getCustomerId(), order.getOrderDate()), key -> new BucketDelta())
+                    .add(order.getStatusPayment(), order.getTotalPrice(), 1);
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_BUCKET_SQL, new ArrayList<>(deltas.entrySet()),
+                importProperties.getBatchSize(), (ps, entry) -> {
+                    BucketKey key = entry.getKey();
+                    BucketDelta delta = entry.getValue();
+                    ps.setLong(1, key.customerId());
+                    ps.setDate(2, Date.valueOf(key.orderDate()));
+                    ps.setLong(3, delta.orderCount);
+                    ps.setBigDecimal(4, delta.totalPriceSum);
+                    ps.setLong(5, delta.paidCount);
+                    ps.setBigDecimal(6, delta.paidTotalPriceSum);
+                });
+    }
+
+    /**
+     * Recomputes the buckets of the given date range from the {@code orders} table,
+     * discarding any drift of the incrementally maintained totals. The table is locked against concurrent
+     * deltas for the duration of the rebuild, so orders changed meanwhile are applied after it.
+     *
+     * @param from The first day to rebuild, or {@code null} to rebuild from the earliest order.
+     * @param to   The last day to rebuild, or {@code null} to rebuild up to the latest order.
+     * @return The number of rebuilt buckets.
+     */
+    @Transactional
+    public int rebuild(LocalDate from, LocalDate to) {
+        Date fromDate = from == null ? null : Date.valueOf(from);
+        Date toDate = to == null ? null : Date.valueOf(to);
+
+        jdbcTemplate.execute(LOCK_ROLLUPS_SQL);
+        jdbcTemplate.update(DELETE_BUCKETS_SQL, fromDate, fromDate, toDate, toDate);
+        return jdbcTemplate.update(INSERT_BUCKETS_SQL, fromDate, fromDate, toDate, toDate);
+    }
+
+    /**
+     * Locks the table against concurrent deltas until the end of the transaction. Set-based order changes
+     * take the lock before changing any order: single order changes update their bucket before their order,
+     * so locking the orders first could deadlock with them.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock() {
+        jdbcTemplate.execute(LOCK_ROLLUPS_SQL);
+    }
+
+    /**
+     * Recomputes the given buckets from the {@code orders} table, deleting those left without orders.
+     * Used after set-based order changes, whose old values are not known row by row. The buckets are
+     * rewritten in JDBC batches, in key order.
+     *
+     * @param buckets The buckets of the changed orders, before and after the change.
+     * @return The number of rebuilt buckets.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int rebuildBuckets(Collection<BucketKey> buckets) {
+        List<BucketKey> sortedBuckets = buckets.stream()
+                .sorted(BUCKET_ORDER)
+                .toList();
+        ParameterizedPreparedStatementSetter<BucketKey> bucketSetter = (ps, key) -> {
+            ps.setLong(1, key.customerId());
+            ps.setDate(2, Date.valueOf(key.orderDate()));
+        };
+
+        jdbcTemplate.batchUpdate(DELETE_BUCKET_SQL, sortedBuckets, importProperties.getBatchSize(), bucketSetter);
+        jdbcTemplate.batchUpdate(INSERT_BUCKET_SQL, sortedBuckets, importProperties.getBatchSize(), bucketSetter);
+        return sortedBuckets.size();
+    }
+
+    private void applyDelta(Long customerId, LocalDate orderDate, BucketDelta delta) {
+        jdbcTemplate.update(UPSERT_BUCKET_SQL, customerId, Date.valueOf(orderDate), delta.orderCount,
+                delta.totalPriceSum, delta.paidCount, delta.paidTotalPriceSum);
+    }
+
+    /**
+     * The key of a rollup bucket.
+     *
+     * @param customerId The customer id of the bucket orders.
+     * @param orderDate  The date of the bucket orders.
+     */
+    public record BucketKey(Long customerId, LocalDate orderDate) {
+    }
+
+    /**
+     * The change of the totals of one bucket.
+     */
+    private static class BucketDelta {
+        private long orderCount;
+        private BigDecimal totalPriceSum = BigDecimal.ZERO;
+        private long paidCount;
+        private BigDecimal paidTotalPriceSum = BigDecimal.ZERO;
+
+        private BucketDelta add(boolean statusPayment, BigDecimal totalPrice, int sign) {
+            BigDecimal signedPrice = sign < 0 ? totalPrice.negate() : totalPrice;
+            orderCount += sign;
+            totalPriceSum = totalPriceSum.add(signedPrice);
+            if (statusPayment) {
+                paidCount += sign;
+                paidTotalPriceSum = paidTotalPriceSum.add(signedPrice);
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.trainingprojectrestapi.repository;
+
+import com.example.trainingprojectrestapi.config.ReactiveOrderProperties;
+import com.example.trainingprojectrestapi.dto.response.CustomerResponseDto;
+import com.example.trainingprojectrestapi.dto.response.OrderResponseDto;
+import com.example.trainingprojectrestapi.dto.response.RetrieveOrderResponseDto;
+import com.example.trainingprojectrestapi.model.OrderCriteria;
+import com.example.trainingprojectrestapi.model.OrderCriterion;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.DESCRIPTION_SEARCH_KEY;
+
+/**
+ * Non-blocking order queries over R2DBC, backing the reactive order endpoints. Like {@link OrderRepositoryImpl},
+ * the SQL of every query kind and criteria shape is compiled once, from the {@link OrderCriterion} SQL
+ * predicates, and the results are ordered the same way.
+ * The repository owns its connection pool, which is not exposed as a {@code ConnectionFactory} bean
+ * since the JDBC {@code DataSource} auto-configuration backs off when there is one.
+ */
+public class ReactiveOrderRepository implements AutoCloseable {
+    private static final String SELECT_DTO = "SELECT o.id, o.customer_id, o.order_date, o.description, "
+            + "o.total_price FROM orders o";
+    private static final String SELECT_COUNT = "SELECT count(o.id) FROM orders o";
+    private static final String SELECT_WITH_CUSTOMER = "SELECT o.id, o.status_payment, o.order_date, "
+            + "o.description, o.total_price, c.id AS customer_id, c.first_name, c.last_name, c.phone_number, c.email "
+            + "FROM orders o JOIN customers c ON c.id = o.customer_id WHERE o.id = :id";
+    private static final String RANK_ORDER = "ts_rank(to_tsvector('english', coalesce(o.description, '')), "
+            + "plainto_tsquery('english', :" + DESCRIPTION_SEARCH_KEY + ")) DESC";
+    private static final String LIMIT_PARAMETER = "limit";
+    private static final String OFFSET_PARAMETER = "offset";
+    private final ConcurrentMap<QueryPlanKey, String> queryPlans = new ConcurrentHashMap<>();
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+
+    public ReactiveOrderRepository(ReactiveOrderProperties properties) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(properties.getUrl()).mutate()
+                .option(ConnectionFactoryOptions.USER, properties.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, properties.getPassword())
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options))
+                .maxSize(properties.getMaxPoolSize())
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        this.fetchSize = properties.getFetchSize();
+    }
+
+    /**
+     * Retrieves an order with the data of its customer.
+     *
+     * @param orderId The ID of the order.
+     * @return A {@link Mono} of the order, empty if there is no such order.
+     */
+    public Mono<RetrieveOrderResponseDto> findWithCustomerById(Long orderId) {
+        return databaseClient.sql(SELECT_WITH_CUSTOMER)
+                .bind("id", orderId)
+                .map(this::toRetrieveDto)
+                .one();
+    }
+
+    /**
+     * Retrieves a page of the orders matching the criteria.
+     *
+     * @param criteria The {@link OrderCriteria} the orders must match.
+     * @param offset   The number of matching orders to skip.
+     * @param limit    The maximum number of orders to retrieve.
+     * @return A {@link Flux} of the orders.
+     */
+    public Flux<OrderResponseDto> findAllAsDto(OrderCriteria criteria, long offset, int limit) {
+        return createQuery(QueryKind.PAGE, criteria)
+                .bind(OFFSET_PARAMETER, offset)
+                .bind(LIMIT_PARAMETER, limit)
+                .map(this::toDto)
+                .all();
+    }
+
+    /**
+     * Counts the orders matching the criteria.
+     *
+     * @param criteria The {@link OrderCriteria} the orders must match.
+     * @return A {@link Mono} of the number of matching orders.
+     */
+    public Mono<Long> count(OrderCriteria criteria) {
+        return createQuery(QueryKind.COUNT, criteria)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * Streams all the orders matching the criteria from a database cursor. Rows are fetched as the
+     * subscriber requests them, so a slow consumer slows down the fetching instead of buffering rows.
+     *
+     * @param criteria The {@link OrderCriteria} the orders must match.
+     * @return A {@link Flux} of the orders.
+     */
+    public Flux<OrderResponseDto> streamAllAsDto(OrderCriteria criteria) {
+        return createQuery(QueryKind.STREAM, criteria)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(this::toDto)
+                .all();
+    }
+
+    @Override
+    public void close() {
+        connectionPool.dispose();
+    }
+
+    /**
+     * Creates a query from the cached plan of the criteria shape and binds the criteria values.
+     *
+     * @param kind     The kind of query to create.
+     * @param criteria The {@link OrderCriteria} the orders must match.
+     * @return A {@link DatabaseClient.GenericExecuteSpec} ready to be executed.
+     */
+    private DatabaseClient.GenericExecuteSpec createQuery(QueryKind kind, OrderCriteria criteria) {
+        String queryPlan = queryPlans.computeIfAbsent(new QueryPlanKey(kind, criteria.getShape()),
+                this::compileQueryPlan);
+
+        DatabaseClient.GenericExecuteSpec query = databaseClient.sql(queryPlan);
+        for (Map.Entry<OrderCriterion, Object> entry : criteria.getValues().entrySet()) {
+            query = query.bind(entry.getKey().getKey(), entry.getValue());
+        }
+        return query;
+    }
+
+    /**
+     * Compiles the SQL query of a criteria shape. Searching by description orders by relevance.
+     *
+     * @param key The query kind and criteria shape.
+     * @return The compiled SQL query.
+     */
+    private String compileQueryPlan(QueryPlanKey key) {
+        List<String> predicates = key.shape().stream()
+                .map(OrderCriterion::getSqlPredicate)
+                .toList();
+
+        List<String> orders = new ArrayList<>();
+        if (key.shape().contains(OrderCriterion.DESCRIPTION_SEARCH) && key.kind() != QueryKind.COUNT) {
+            orders.add(RANK_ORDER);
+        }
+        if (key.kind() == QueryKind.PAGE) {
+            orders.add("o.id");
+        }
+
+        StringBuilder query = new StringBuilder(key.kind() == QueryKind.COUNT ? SELECT_COUNT : SELECT_DTO);
+        if (!predicates.isEmpty()) {
+            query.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+        if (!orders.isEmpty()) {
+            query.append(" ORDER BY ").append(String.join(", ", orders));
+        }
+        if (key.kind() == QueryKind.PAGE) {
+            query.append(" LIMIT :").append(LIMIT_PARAMETER).append(" OFFSET :").append(OFFSET_PARAMETER);
+        }
+        return query.toString();
+    }
+
+    private OrderResponseDto toDto(Readable row) {
+        return new OrderResponseDto(
+                row.get("id", Long.class),
+                row.get("customer_id", Long.class),
+                row.get("order_date", LocalDate.class),
+                row.get("description", String.class),
+                row.get("total_price", BigDecimal.class));
+    }
+
+    private RetrieveOrderResponseDto toRetrieveDto(Readable row) {
+        RetrieveOrderResponseDto order = new RetrieveOrderResponseDto();
+        order.setId(row.get("id", Long.class));
+        order.setCustomerResponseDto(new CustomerResponseDto(
+                row.get("customer_id", Long.class),
+                row.get("first_name", String.class),
+                row.get("last_name", String.class),
+                row.get("phone_number", String.class),
+                row.get("email", String.class)));
+        order.setStatusPayment(Boolean.TRUE.equals(row.get("status_payment", Boolean.class)));
+        order.setOrderDate(row.get("order_date", LocalDate.class));
+        order.setDescription(row.get("description", String.class));
+        order.setTotalPrice(row.get("total_price", BigDecimal.class));
+        return order;
+    }
+
+    /**
+     * The kinds of order queries, which differ in their selection, ordering and paging.
+     */
+    private enum QueryKind {
+        PAGE,
+        STREAM,
+        COUNT
+    }
+
+    /**
+     * The cache key of a compiled query.
+     *
+     * @param kind  The kind of query.
+     * @param shape The criteria present in the request.
+     */
+    private record QueryPlanKey(QueryKind kind, Set<OrderCriterion> shape) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.trainingprojectrestapi.service;
+
+import java.util.function.BiConsumer;
+
+/**
+ * A channel broadcasting cache invalidations to every application node, including the publishing one.
+ * The implementation is selected with the {@code cache.invalidation.channel} property.
+ */
+public interface CacheInvalidationChannel {
+
+    /**
+     * Publishes the invalidation of a cache entry, or of the whole cache.
+     *
+     * @param cacheName The name of the cache.
+     * @param key       The key of the invalidated entry, or {@code null} to invalidate all entries.
+     */
+    void publish(String cacheName, Long key);
+
+    /**
+     * Registers a listener receiving every published invalidation with its cache name and key.
+     *
+     * @param listener The listener to register.
+     */
+    void subscribe(BiConsumer<String, Long> listener);
+}
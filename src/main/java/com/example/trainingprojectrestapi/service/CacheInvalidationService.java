@@ -0,0 +1,24 @@
+package com.example.trainingprojectrestapi.service;
+
+/**
+ * This service interface defines methods for invalidating cached entries on every application node.
+ * Within a transaction, the local cache is invalidated again after commit, so that entries reloaded
+ * concurrently from the not yet committed state are not kept.
+ */
+public interface CacheInvalidationService {
+
+    /**
+     * Evicts an entry from the local cache and broadcasts its invalidation to the other nodes.
+     *
+     * @param cacheName The name of the cache.
+     * @param key       The key of the entry to evict.
+     */
+    void evict(String cacheName, Long key);
+
+    /**
+     * Clears a local cache and broadcasts its invalidation to the other nodes.
+     *
+     * @param cacheName The name of the cache to clear.
+     */
+    void clear(String cacheName);
+}
@@ -3,7 +3,10 @@ package com.example.trainingprojectrestapi.service;
 import com.example.trainingprojectrestapi.dto.request.CustomerRequestDto;
 import com.example.trainingprojectrestapi.dto.response.CustomerResponseDto;
 import com.example.trainingprojectrestapi.entity.Customer;
+import com.example.trainingprojectrestapi.model.CursorCustomerResponse;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -18,6 +21,23 @@ public interface CustomerService {
      */
     List<CustomerResponseDto> getAllCustomers();
 
+    /**
+     * Retrieves customers ordered by id, one keyset slice at a time.
+     *
+     * @param size   The number of customers per slice.
+     * @param cursor The continuation token returned with the previous slice, or {@code null} for the first one.
+     * @return A {@link CursorCustomerResponse} containing the slice and the token of the next one.
+     */
+    CursorCustomerResponse scrollCustomers(short size, String cursor);
+
+    /**
+     * Writes all customers as newline-delimited JSON, streaming them from a database cursor.
+     *
+     * @param outputStream The output stream to write the NDJSON data.
+     * @throws IOException If an I/O error occurs while writing the NDJSON data.
+     */
+    void exportCustomers(OutputStream outputStream) throws IOException;
+
     /**
      * Adds a new customer.
      *
@@ -43,7 +63,8 @@ public interface CustomerService {
     void deleteCustomer(Long customerId);
 
     /**
-     * Retrieves a customer if it exists.
+     * Retrieves a customer if it exists, through the {@code customers} cache.
+     * The returned instance may be shared with other callers and must not be modified.
      *
      * @param customerId The ID of the customer to retrieve.
      * @return The {@link Customer} object if it exists.
@@ -0,0 +1,26 @@
+package com.example.trainingprojectrestapi.service;
+
+import com.example.trainingprojectrestapi.dto.response.ImportJobResponseDto;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * This service interface defines methods for running order imports as asynchronous jobs.
+ */
+public interface ImportJobService {
+
+    /**
+     * Stores the uploaded file and schedules its import on the import job executor.
+     *
+     * @param file The {@link MultipartFile} containing order data.
+     * @return An {@link ImportJobResponseDto} representing the queued job.
+     */
+    ImportJobResponseDto submitImport(MultipartFile file);
+
+    /**
+     * Retrieves the progress of an import job, and its result once it has completed.
+     *
+     * @param jobId The ID of the job to retrieve.
+     * @return An {@link ImportJobResponseDto} representing the job.
+     */
+    ImportJobResponseDto getImportJob(Long jobId);
+}
@@ -1,13 +1,22 @@
 package com.example.trainingprojectrestapi.service;
 
+import com.example.trainingprojectrestapi.dto.request.OrderBulkDeleteRequestDto;
+import com.example.trainingprojectrestapi.dto.request.OrderBulkUpdateRequestDto;
 import com.example.trainingprojectrestapi.dto.request.OrderRequestDto;
 import com.example.trainingprojectrestapi.dto.response.OrderResponseDto;
+import com.example.trainingprojectrestapi.model.BulkOperationResult;
+import com.example.trainingprojectrestapi.model.CursorOrderResponse;
 import com.example.trainingprojectrestapi.model.ImportedResult;
+import com.example.trainingprojectrestapi.model.OrderAggregateResponse;
+import com.example.trainingprojectrestapi.model.OrderSnapshot;
 import com.example.trainingprojectrestapi.model.PaginatedOrderResponse;
+import com.example.trainingprojectrestapi.model.RollupRebuildResult;
 import com.example.trainingprojectrestapi.dto.response.RetrieveOrderResponseDto;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.util.Map;
 
 /**
@@ -31,6 +40,16 @@ public interface OrderService {
      */
     RetrieveOrderResponseDto getOrder(Long orderId);
 
+    /**
+     * Retrieves an order by its ID as serialized JSON, through the {@code orders} cache.
+     * The snapshot carries an ETag built from the order version and body digest, and the order
+     * modification time, so unchanged orders can be answered with {@code 304 Not Modified}.
+     *
+     * @param orderId The ID of the order to retrieve.
+     * @return An {@link OrderSnapshot} of the {@link RetrieveOrderResponseDto} of the order.
+     */
+    OrderSnapshot getOrderSnapshot(Long orderId);
+
     /**
      * Updates an existing order.
      *
@@ -47,23 +66,74 @@ public interface OrderService {
      */
     void deleteOrder(Long orderId);
 
+    /**
+     * Updates all the orders selected by ids and/or criteria with a single statement, keeping the daily rollup
+     * and the order cache consistent.
+     *
+     * @param dto The {@link OrderBulkUpdateRequestDto} containing the selection and the fields to set.
+     * @return A {@link BulkOperationResult} with the number of updated orders and rebuilt rollup buckets.
+     */
+    BulkOperationResult updateOrders(OrderBulkUpdateRequestDto dto);
+
+    /**
+     * Deletes all the orders selected by ids and/or criteria with a single statement, keeping the daily rollup
+     * and the order cache consistent.
+     *
+     * @param dto The {@link OrderBulkDeleteRequestDto} containing the selection.
+     * @return A {@link BulkOperationResult} with the number of deleted orders and rebuilt rollup buckets.
+     */
+    BulkOperationResult deleteOrders(OrderBulkDeleteRequestDto dto);
+
     /**
      * Retrieves orders based on specified criteria, paginated.
      *
      * @param criteria A {@link Map} containing the search criteria.
      * @param size     The number of orders per page.
      * @param page     The page number.
+     * @param count    Whether to count all matching orders for the total number of items and pages.
      * @return A {@link PaginatedOrderResponse} containing the paginated list of orders.
      */
-    PaginatedOrderResponse getOrdersByCriteria(Map<String, Object> criteria, short size, short page);
+    PaginatedOrderResponse getOrdersByCriteria(Map<String, Object> criteria, short size, short page, boolean count);
 
     /**
-     * Retrieves orders based on specified criteria.
+     * Retrieves orders based on specified criteria, one keyset slice at a time.
      *
      * @param criteria A {@link Map} containing the search criteria.
-     * @return A list of {@link OrderResponseDto} representing the matching orders.
+     * @param size     The number of orders per slice.
+     * @param cursor   The continuation token returned with the previous slice, or {@code null} for the first one.
+     * @return A {@link CursorOrderResponse} containing the slice and the token of the next one.
+     */
+    CursorOrderResponse scrollOrdersByCriteria(Map<String, Object> criteria, short size, String cursor);
+
+    /**
+     * Computes the number, sum and average total price of the orders matching the specified criteria,
+     * grouped by customer, order date bucket or payment status.
+     *
+     * @param criteria A {@link Map} containing the search criteria.
+     * @param groupBy  The grouping key: {@code customer}, {@code day}, {@code week}, {@code month}
+     *                 or {@code statusPayment}.
+     * @return An {@link OrderAggregateResponse} containing the totals of every group.
+     */
+    OrderAggregateResponse aggregateOrdersByCriteria(Map<String, Object> criteria, String groupBy);
+
+    /**
+     * Recomputes the daily order rollup of the given date range from the orders,
+     * reconciling any drift of the incrementally maintained totals.
+     *
+     * @param from The first day to rebuild, or {@code null} to rebuild from the earliest order.
+     * @param to   The last day to rebuild, or {@code null} to rebuild up to the latest order.
+     * @return A {@link RollupRebuildResult} with the number of rebuilt buckets and the duration.
+     */
+    RollupRebuildResult rebuildRollup(LocalDate from, LocalDate to);
+
+    /**
+     * Exports all orders matching the specified criteria as CSV, streaming them from a database cursor.
+     *
+     * @param criteria     A {@link Map} containing the search criteria.
+     * @param outputStream The output stream to write the CSV data.
+     * @throws IOException If an I/O error occurs while writing the CSV data.
      */
-    List<OrderResponseDto> getOrdersByCriteria(Map<String, Object> criteria);
+    void exportOrdersByCriteria(Map<String, Object> criteria, OutputStream outputStream) throws IOException;
 
     /**
      * Processes orders from a file.
@@ -0,0 +1,60 @@
+package com.example.trainingprojectrestapi.service.impl;
+
+import com.example.trainingprojectrestapi.service.CacheInvalidationChannel;
+import com.example.trainingprojectrestapi.service.CacheInvalidationService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Implementation of the CacheInvalidationService interface. Evicts entries from the local
+ * {@link CacheManager} right away and on every invalidation received from the channel.
+ */
+@Service
+public class CacheInvalidationServiceImpl implements CacheInvalidationService {
+    private final CacheManager cacheManager;
+    private final CacheInvalidationChannel invalidationChannel;
+
+    public CacheInvalidationServiceImpl(CacheManager cacheManager, CacheInvalidationChannel invalidationChannel) {
+        this.cacheManager = cacheManager;
+        this.invalidationChannel = invalidationChannel;
+        invalidationChannel.subscribe(this::evictLocally);
+    }
+
+    @Override
+    public void evict(String cacheName, Long key) {
+        invalidate(cacheName, key);
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        invalidate(cacheName, null);
+    }
+
+    private void invalidate(String cacheName, Long key) {
+        evictLocally(cacheName, key);
+        invalidationChannel.publish(cacheName, key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocally(cacheName, key);
+                }
+            });
+        }
+    }
+
+    private void evictLocally(String cacheName, Long key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (key == null) {
+            cache.clear();
+        } else {
+            cache.evict(key);
+        }
+    }
+}
@@ -4,14 +4,27 @@ import com.example.trainingprojectrestapi.dto.request.CustomerRequestDto;
 import com.example.trainingprojectrestapi.dto.response.CustomerResponseDto;
 import com.example.trainingprojectrestapi.entity.Customer;
 import com.example.trainingprojectrestapi.exception.DataProcessingException;
+import com.example.trainingprojectrestapi.mapper.CustomerMapper;
+import com.example.trainingprojectrestapi.model.CursorCustomerResponse;
 import com.example.trainingprojectrestapi.repository.CustomerRepository;
+import com.example.trainingprojectrestapi.service.CacheInvalidationService;
 import com.example.trainingprojectrestapi.service.CustomerService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.trainingprojectrestapi.util.CursorUtil;
+import com.example.trainingprojectrestapi.util.FileOperationUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.CUSTOMERS_CACHE;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.ORDERS_CACHE;
 
 /**
  * Implementation of the CustomerService interface for managing customers.
@@ -20,22 +33,49 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CustomerServiceImpl implements CustomerService {
     private final CustomerRepository customerRepository;
-    private final ObjectMapper mapper;
+    private final CacheInvalidationService cacheInvalidationService;
 
     @Override
     public List<CustomerResponseDto> getAllCustomers() {
         return customerRepository.findAll().stream()
-                .map(customer -> mapper.convertValue(customer, CustomerResponseDto.class))
+                .map(CustomerMapper.INSTANCE::mapCustomerToDto)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public CursorCustomerResponse scrollCustomers(short size, String cursor) {
+        if (size < 1) {
+            throw new DataProcessingException("Invalid size: " + size);
+        }
+        Long afterId = CursorUtil.decodeCursor(cursor);
+        List<CustomerResponseDto> customers = customerRepository.findByIdGreaterThanOrderById(
+                        afterId == null ? 0L : afterId, Limit.of(size + 1)).stream()
+                .map(CustomerMapper.INSTANCE::mapCustomerToDto)
+                .toList();
+        boolean hasNext = customers.size() > size;
+        List<CustomerResponseDto> items = hasNext ? customers.subList(0, size) : customers;
+
+        return CursorCustomerResponse.builder()
+                .pageSize(size)
+                .nextCursor(hasNext ? CursorUtil.encodeCursor(items.get(items.size() - 1).getId()) : null)
+                .items(items)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCustomers(OutputStream outputStream) throws IOException {
+        try (Stream<CustomerResponseDto> customers = customerRepository.streamAllAsDto()) {
+            FileOperationUtil.exportToNdjson(customers, outputStream);
+        }
+    }
+
     @Override
     public CustomerResponseDto addCustomer(CustomerRequestDto dto) {
         try {
-            Customer customerToSave = mapper.convertValue(dto, Customer.class);
+            Customer customerToSave = CustomerMapper.INSTANCE.mapDtoToCustomer(dto);
 
-            return mapper.convertValue(customerRepository.save(customerToSave),
-                    CustomerResponseDto.class);
+            return CustomerMapper.INSTANCE.mapCustomerToDto(customerRepository.save(customerToSave));
         } catch (RuntimeException ex) {
             throw new DataProcessingException("Failed to save customer. "
                     + ex.getCause().getCause().getMessage());
@@ -44,29 +84,45 @@ public class CustomerServiceImpl implements CustomerService {
 
     @Override
     public CustomerResponseDto updateCustomer(Long customerId, CustomerRequestDto dto) {
-        Customer customerFromDb = getCustomerIfExists(customerId);
+        Customer customerFromDb = findCustomer(customerId);
         customerFromDb.setEmail(dto.getEmail());
         customerFromDb.setFirstName(dto.getFirstName());
         customerFromDb.setLastName(dto.getLastName());
         customerFromDb.setPhoneNumber(dto.getPhoneNumber());
 
+        CustomerResponseDto updatedCustomer;
         try {
-            return mapper.convertValue(customerRepository.save(customerFromDb),
-                    CustomerResponseDto.class);
+            updatedCustomer = CustomerMapper.INSTANCE.mapCustomerToDto(customerRepository.save(customerFromDb));
         } catch (RuntimeException ex) {
             throw new DataProcessingException("Failed to update customer. "
                     + ex.getCause().getCause().getMessage());
         }
+        cacheInvalidationService.evict(CUSTOMERS_CACHE, customerId);
+        cacheInvalidationService.clear(ORDERS_CACHE);
+        return updatedCustomer;
     }
 
     @Override
     public void deleteCustomer(Long customerId) {
-        Customer customerFromDb = getCustomerIfExists(customerId);
+        Customer customerFromDb = findCustomer(customerId);
         customerRepository.delete(customerFromDb);
+        cacheInvalidationService.evict(CUSTOMERS_CACHE, customerId);
     }
 
     @Override
+    @Cacheable(cacheNames = CUSTOMERS_CACHE, sync = true)
     public Customer getCustomerIfExists(Long customerId) {
+        return findCustomer(customerId);
+    }
+
+    /**
+     * Loads a customer from the database, bypassing the cache, so it can be modified safely.
+     *
+     * @param customerId The ID of the customer to load.
+     * @return The {@link Customer} object if it exists.
+     * @throws DataProcessingException If the customer does not exist.
+     */
+    private Customer findCustomer(Long customerId) {
         return customerRepository.findById(customerId).orElseThrow(
                 () -> new DataProcessingException("Couldn't find customer by id: " + customerId)
         );
@@ -0,0 +1,278 @@
+package com.example.trainingprojectrestapi.service.impl;
+
+import com.example.trainingprojectrestapi.config.OrderImportProperties;
+import com.example.trainingprojectrestapi.dto.response.ImportJobResponseDto;
+import com.example.trainingprojectrestapi.entity.ImportJob;
+import com.example.trainingprojectrestapi.entity.ImportJobStatus;
+import com.example.trainingprojectrestapi.exception.DataProcessingException;
+import com.example.trainingprojectrestapi.exception.FileOperationException;
+import com.example.trainingprojectrestapi.model.ImportedResult;
+import com.example.trainingprojectrestapi.model.InvalidInputData;
+import com.example.trainingprojectrestapi.repository.ImportJobRepository;
+import com.example.trainingprojectrestapi.service.ImportJobService;
+import com.example.trainingprojectrestapi.util.FileOperationUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.IMPORT_JOB_EXECUTOR;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.IMPORT_JOB_HEARTBEAT_EXECUTOR;
+
+/**
+ * Implementation of the ImportJobService interface for running order imports as asynchronous jobs.
+ * The state of every job is kept in the {@code import_jobs} table, so it survives application restarts.
+ * Instances renew the heartbeat of the jobs they have queued or running, and fail the jobs whose heartbeat
+ * has expired, whichever instance accepted them.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportJobServiceImpl implements ImportJobService {
+    private static final String STALE_ERROR_MESSAGE =
+            "Import stopped sending heartbeats, its application instance was likely stopped";
+    private static final Set<ImportJobStatus> UNFINISHED_STATUSES =
+            EnumSet.of(ImportJobStatus.QUEUED, ImportJobStatus.RUNNING);
+    private final Set<Long> activeJobIds = ConcurrentHashMap.newKeySet();
+    private final ImportJobRepository importJobRepository;
+    private final OrderImporter orderImporter;
+    private final ObjectMapper mapper;
+    private final OrderImportProperties importProperties;
+    @Qualifier(IMPORT_JOB_EXECUTOR)
+    private final ExecutorService importJobExecutor;
+    @Qualifier(IMPORT_JOB_HEARTBEAT_EXECUTOR)
+    private final ScheduledExecutorService importJobHeartbeatExecutor;
+
+    @Override
+    public ImportJobResponseDto submitImport(MultipartFile file) {
+        if (!FileOperationUtil.isJsonFile(file)) {
+            throw new FileOperationException("Received file " + file.getOriginalFilename()
+            + "is not in JSON format");
+        }
+        Path uploadedFile = storeUploadedFile(file);
+
+        LocalDateTime now = LocalDateTime.now();
+        ImportJob job = importJobRepository.save(ImportJob.builder()
+                .fileName(file.getOriginalFilename())
+                .status(ImportJobStatus.QUEUED)
+                .createdAt(now)
+                .heartbeatAt(now)
+                .build());
+        activeJobIds.add(job.getId());
+        importJobExecutor.execute(() -> runImport(job.getId(), uploadedFile));
+
+        return mapJobToDto(job);
+    }
+
+    @Override
+    public ImportJobResponseDto getImportJob(Long jobId) {
+        return mapJobToDto(getJobIfExists(jobId));
+    }
+
+    /**
+     * Starts renewing the heartbeats of the jobs of this instance and failing the stale jobs
+     * every {@code orders.import.heartbeat-interval}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleHeartbeats() {
+        importJobHeartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, 0,
+                importProperties.getHeartbeatInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Renews the heartbeat of the jobs this instance has queued or running, then fails the queued or running
+     * jobs of any instance whose last heartbeat is older than {@code orders.import.job-lease}. Their instance
+     * was stopped, and their uploaded files were temporary, so they can't be resumed.
+     */
+    public void heartbeat() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            if (!activeJobIds.isEmpty()) {
+                importJobRepository.renewHeartbeats(Set.copyOf(activeJobIds), UNFINISHED_STATUSES, now);
+            }
+            importJobRepository.failStaleJobs(UNFINISHED_STATUSES, now.minus(importProperties.getJobLease()),
+                    STALE_ERROR_MESSAGE, now);
+        } catch (RuntimeException ex) {
+            // An exception would cancel the scheduled task, the next run retries instead
+            log.warn("Import job heartbeat failed", ex);
+        }
+    }
+
+    /**
+     * Runs the import of a job on the import job executor, storing its progress after every chunk.
+     *
+     * @param jobId        The ID of the job to run.
+     * @param uploadedFile The temporary copy of the uploaded file, deleted once the job finishes.
+     */
+    private void runImport(Long jobId, Path uploadedFile) {
+        ImportJob job = getJobIfExists(jobId);
+        job.setStatus(ImportJobStatus.RUNNING);
+        job.setStartedAt(LocalDateTime.now());
+        importJobRepository.save(job);
+
+        try (InputStream inputStream = Files.newInputStream(uploadedFile)) {
+            ImportedResult result = orderImporter.importOrders(inputStream, progress ->
+                    importJobRepository.updateProgress(jobId, progress.getParsedOrders(),
+                            progress.getSuccessfulImports(), progress.getFailedImports()));
+            completeJob(jobId, result);
+        } catch (IOException | RuntimeException ex) {
+            failJob(jobId, ex.getMessage());
+        } finally {
+            activeJobIds.remove(jobId);
+            deleteUploadedFile(uploadedFile);
+        }
+    }
+
+    /**
+     * Stores the final counters and invalid input data of a completed job.
+     *
+     * @param jobId  The ID of the completed job.
+     * @param result The {@link ImportedResult} of the import.
+     * @throws JsonProcessingException If the invalid input data can't be serialized.
+     */
+    private void completeJob(Long jobId, ImportedResult result) throws JsonProcessingException {
+        ImportJob job = getJobIfExists(jobId);
+        job.setStatus(ImportJobStatus.COMPLETED);
+        job.setParsedOrders(result.getSuccessfulImports() + result.getFailedImports());
+        job.setSuccessfulImports(result.getSuccessfulImports());
+        job.setFailedImports(result.getFailedImports());
+        job.setInvalidInputData(mapper.writeValueAsString(result.getInvalidInputData()));
+        job.setFinishedAt(LocalDateTime.now());
+        importJobRepository.save(job);
+    }
+
+    /**
+     * Marks a job as failed, keeping the progress it reached.
+     *
+     * @param jobId        The ID of the failed job.
+     * @param errorMessage The reason of the failure.
+     */
+    private void failJob(Long jobId, String errorMessage) {
+        ImportJob job = getJobIfExists(jobId);
+        job.setStatus(ImportJobStatus.FAILED);
+        job.setErrorMessage(errorMessage);
+        job.setFinishedAt(LocalDateTime.now());
+        importJobRepository.save(job);
+    }
+
+    /**
+     * Copies the uploaded file to a temporary file, since the multipart data is released after the request.
+     *
+     * @param file The uploaded {@link MultipartFile}.
+     * @return The path of the temporary copy.
+     * @throws FileOperationException If the file can't be copied.
+     */
+    private Path storeUploadedFile(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream()) {
+            Path uploadedFile = Files.createTempFile("orders-import-", ".json");
+            Files.copy(inputStream, uploadedFile, StandardCopyOption.REPLACE_EXISTING);
+            return uploadedFile;
+        } catch (IOException ioException) {
+            throw new FileOperationException("Failed to store uploaded file. " + ioException.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the temporary copy of an uploaded file.
+     *
+     * @param uploadedFile The path of the temporary copy.
+     */
+    private void deleteUploadedFile(Path uploadedFile) {
+        try {
+            Files.deleteIfExists(uploadedFile);
+        } catch (IOException ignored) {
+            uploadedFile.toFile().deleteOnExit();
+        }
+    }
+
+    /**
+     * Maps an {@link ImportJob} to an {@link ImportJobResponseDto}, computing its throughput
+     * and restoring its {@link ImportedResult} once completed.
+     *
+     * @param job The {@link ImportJob} to map.
+     * @return An {@link ImportJobResponseDto} representing the job.
+     */
+    private ImportJobResponseDto mapJobToDto(ImportJob job) {
+        long durationMillis = 0;
+        if (job.getStartedAt() != null) {
+            LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+            durationMillis = Math.max(1, Duration.between(job.getStartedAt(), end).toMillis());
+        }
+        long rowsPerSecond = durationMillis == 0 ? 0 : job.getParsedOrders() * 1000L / durationMillis;
+
+        ImportedResult result = null;
+        if (job.getStatus() == ImportJobStatus.COMPLETED) {
+            result = ImportedResult.builder()
+                    .successfulImports(job.getSuccessfulImports())
+                    .failedImports(job.getFailedImports())
+                    .invalidInputData(readInvalidInputData(job.getInvalidInputData()))
+                    .durationMillis(durationMillis)
+                    .rowsPerSecond(rowsPerSecond)
+                    .build();
+        }
+
+        return ImportJobResponseDto.builder()
+                .id(job.getId())
+                .fileName(job.getFileName())
+                .status(job.getStatus())
+                .parsedOrders(job.getParsedOrders())
+                .successfulImports(job.getSuccessfulImports())
+                .failedImports(job.getFailedImports())
+                .rowsPerSecond(rowsPerSecond)
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .result(result)
+                .build();
+    }
+
+    /**
+     * Restores the invalid input data stored with a completed job.
+     *
+     * @param invalidInputData The JSON representation of the invalid input data.
+     * @return The list of {@link InvalidInputData}.
+     * @throws DataProcessingException If the stored data can't be read.
+     */
+    private List<InvalidInputData> readInvalidInputData(String invalidInputData) {
+        try {
+            return mapper.readValue(invalidInputData, new TypeReference<>() { });
+        } catch (JsonProcessingException ex) {
+            throw new DataProcessingException("Failed to read import result. " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Retrieves an {@link ImportJob} by its ID if it exists in the database.
+     *
+     * @param jobId The ID of the job to retrieve.
+     * @return The {@link ImportJob} object corresponding to the provided ID.
+     * @throws DataProcessingException If no job with the provided ID exists in the database.
+     */
+    private ImportJob getJobIfExists(Long jobId) {
+        return importJobRepository.findById(jobId).orElseThrow(
+                () -> new DataProcessingException("Couldn't find import job by id: " + jobId)
+        );
+    }
+}
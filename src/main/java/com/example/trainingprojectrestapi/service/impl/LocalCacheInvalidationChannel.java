@@ -0,0 +1,30 @@
+package com.example.trainingprojectrestapi.service.impl;
+
+import com.example.trainingprojectrestapi.service.CacheInvalidationChannel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.CACHE_INVALIDATION_CHANNEL_PROPERTY;
+
+/**
+ * Cache invalidation channel of a single application node, delivering invalidations to the local listeners only.
+ */
+@Component
+@ConditionalOnProperty(name = CACHE_INVALIDATION_CHANNEL_PROPERTY, havingValue = "local", matchIfMissing = true)
+public class LocalCacheInvalidationChannel implements CacheInvalidationChannel {
+    private final List<BiConsumer<String, Long>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String cacheName, Long key) {
+        listeners.forEach(listener -> listener.accept(cacheName, key));
+    }
+
+    @Override
+    public void subscribe(BiConsumer<String, Long> listener) {
+        listeners.add(listener);
+    }
+}
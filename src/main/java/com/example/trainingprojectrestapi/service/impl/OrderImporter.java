@@ -0,0 +1,293 @@
+package com.example.trainingprojectrestapi.service.impl;
+
+import com.example.trainingprojectrestapi.config.OrderImportProperties;
+import com.example.trainingprojectrestapi.dto.request.OrderRequestDto;
+import com.example.trainingprojectrestapi.exception.DataProcessingException;
+import com.example.trainingprojectrestapi.exception.FileOperationException;
+import com.example.trainingprojectrestapi.model.ImportProgress;
+import com.example.trainingprojectrestapi.model.ImportedResult;
+import com.example.trainingprojectrestapi.model.InvalidInputData;
+import com.example.trainingprojectrestapi.repository.CustomerRepository;
+import com.example.trainingprojectrestapi.repository.OrderBatchRepository;
+import com.example.trainingprojectrestapi.repository.OrderRollupRepository;
+import com.example.trainingprojectrestapi.util.FileOperationUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.Validator;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.CUSTOMER_ID_KEY;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.ERROR_MESSAGE;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.ORDERS_IMPORT_ROWS_COUNTER;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.ORDER_VALIDATION_EXECUTOR;
+
+/**
+ * Imports orders from JSON files as a pipeline. The file is parsed in chunks on the calling thread,
+ * each chunk is validated on a bounded worker pool, and the chunks are persisted in file order
+ * on the calling thread once their validation completes.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderImporter {
+    private final Validator validator;
+    private final CustomerRepository customerRepository;
+    private final OrderBatchRepository orderBatchRepository;
+    private final OrderRollupRepository orderRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final OrderImportProperties importProperties;
+    @Qualifier(ORDER_VALIDATION_EXECUTOR)
+    private final ExecutorService validationExecutor;
+
+    /**
+     * Imports all valid orders from the given JSON file.
+     *
+     * @param file The {@link MultipartFile} containing a JSON array of orders.
+     * @return An {@link ImportedResult} representing the result of the import process.
+     * @throws FileOperationException If the file is not in JSON format or if it is empty.
+     * @see #importOrders(InputStream, Consumer)
+     */
+    public ImportedResult importOrders(MultipartFile file) {
+        if (!FileOperationUtil.isJsonFile(file)) {
+            throw new FileOperationException("Received file " + file.getOriginalFilename()
+            + "is not in JSON format");
+        }
+        try (InputStream inputStream = file.getInputStream()) {
+            return importOrders(inputStream, progress -> { });
+        } catch (IOException ioException) {
+            throw new FileOperationException(ioException.getMessage());
+        }
+    }
+
+    /**
+     * Imports all valid orders from the given JSON stream, reporting progress after every persisted chunk.
+     * At most {@code orders.import.max-pending-chunks} chunks are in flight at once, so memory stays
+     * bounded whatever the file size.
+     * <p>
+     * Every chunk is committed in its own transaction, so the import is not atomic: if the stream turns out
+     * to be malformed part way through, the chunks persisted before the error stay committed, and their
+     * counts are appended to the message of the thrown exception.
+     *
+     * @param inputStream      The stream containing a JSON array of orders.
+     * @param progressListener The listener notified with the {@link ImportProgress} after each chunk.
+     * @return An {@link ImportedResult} representing the result of the import process.
+     * @throws FileOperationException If the stream is not a JSON array of orders or if it is empty,
+     *                                including the counts of the orders persisted before the error.
+     */
+    public ImportedResult importOrders(InputStream inputStream, Consumer<ImportProgress> progressListener) {
+        ImportState state = new ImportState(System.nanoTime());
+        Deque<PendingChunk> pendingChunks = new ArrayDeque<>();
+
+        try {
+            FileOperationUtil.parseJsonFileData(inputStream, importProperties.getChunkSize(), chunk -> {
+                if (pendingChunks.size() >= importProperties.getMaxPendingChunks()) {
+                    persistChunk(pendingChunks.poll(), state, progressListener);
+                }
+                state.parsedOrders += chunk.size();
+                pendingChunks.add(new PendingChunk(chunk, validationExecutor.submit(() -> validateChunk(chunk))));
+            });
+            while (!pendingChunks.isEmpty()) {
+                persistChunk(pendingChunks.poll(), state, progressListener);
+            }
+        } catch (FileOperationException ex) {
+            if (state.successfulImports + state.failedImports == 0) {
+                throw ex;
+            }
+            throw new FileOperationException(ex.getMessage() + ". Orders persisted before the error: "
+                    + state.successfulImports + " imported, " + state.failedImports + " rejected");
+        } finally {
+            pendingChunks.forEach(pendingChunk -> pendingChunk.fieldErrors().cancel(true));
+        }
+
+        if (state.parsedOrders == 0) {
+            throw new FileOperationException("Received empty json file with no data");
+        }
+        long durationMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - state.startTime));
+
+        return ImportedResult.builder()
+                .failedImports(state.failedImports)
+                .successfulImports(state.successfulImports)
+                .invalidInputData(state.invalidInputData)
+                .durationMillis(durationMillis)
+                .rowsPerSecond(state.parsedOrders * 1000L / durationMillis)
+                .build();
+    }
+
+    /**
+     * Waits for the validation of a chunk and persists its valid orders in JDBC batches.
+     * Customer existence is resolved once for all distinct customer ids of the chunk.
+     *
+     * @param pendingChunk     The chunk with its pending validation result.
+     * @param state            The state of the running import, updated with the chunk outcome.
+     * @param progressListener The listener notified with the progress once the chunk is persisted.
+     */
+    private void persistChunk(PendingChunk pendingChunk, ImportState state,
+                              Consumer<ImportProgress> progressListener) {
+        List<InvalidInputData> invalidInputData = state.invalidInputData;
+        List<OrderRequestDto> chunk = pendingChunk.orders();
+        List<List<InvalidInputData>> fieldErrors = awaitValidation(pendingChunk.fieldErrors());
+        Set<Long> existingCustomerIds = findExistingCustomerIds(chunk, fieldErrors);
+
+        List<OrderRequestDto> validOrders = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            OrderRequestDto order = chunk.get(i);
+            if (!fieldErrors.get(i).isEmpty()) {
+                invalidInputData.addAll(fieldErrors.get(i));
+            } else if (!existingCustomerIds.contains(order.getCustomerId())) {
+                invalidInputData.add(InvalidInputData.builder()
+                        .errorMessage(ERROR_MESSAGE)
+                        .incorrectField(CUSTOMER_ID_KEY)
+                        .fieldValue(order.getCustomerId())
+                        .build());
+            } else {
+                validOrders.add(order);
+            }
+        }
+        int savedOrders = validOrders.isEmpty() ? 0 : saveOrders(validOrders);
+        state.successfulImports += savedOrders;
+        state.failedImports += chunk.size() - savedOrders;
+        meterRegistry.counter(ORDERS_IMPORT_ROWS_COUNTER, "result", "imported").increment(savedOrders);
+        meterRegistry.counter(ORDERS_IMPORT_ROWS_COUNTER, "result", "rejected").increment(chunk.size() - savedOrders);
+
+        progressListener.accept(ImportProgress.builder()
+                .parsedOrders(state.parsedOrders)
+                .successfulImports(state.successfulImports)
+                .failedImports(state.failedImports)
+                .build());
+    }
+
+    /**
+     * Inserts the valid orders of a chunk and adds them to the daily rollup in one transaction.
+     *
+     * @param orders The valid orders of the chunk.
+     * @return The number of inserted orders.
+     */
+    private int saveOrders(List<OrderRequestDto> orders) {
+        return transactionTemplate.execute(status -> {
+            int savedOrders = orderBatchRepository.saveAll(orders);
+            orderRollupRepository.addAll(orders);
+            return savedOrders;
+        });
+    }
+
+    /**
+     * Validates every order of a chunk against its bean validation constraints.
+     * Runs on the validation worker pool and only touches its own chunk.
+     *
+     * @param chunk The orders parsed from the file.
+     * @return The invalid input data of each order, by position in the chunk.
+     */
+    private List<List<InvalidInputData>> validateChunk(List<OrderRequestDto> chunk) {
+        return chunk.stream()
+                .map(this::validateOrder)
+                .toList();
+    }
+
+    /**
+     * Validates the given order against its bean validation constraints.
+     *
+     * @param order The {@link OrderRequestDto} to validate.
+     * @return The invalid input data found in the order, empty if the order is valid.
+     */
+    private List<InvalidInputData> validateOrder(OrderRequestDto order) {
+        Errors errors = new BeanPropertyBindingResult(order, OrderRequestDto.class.getSimpleName());
+        validator.validate(order, errors);
+        return errors.getFieldErrors().stream()
+                .map(this::buildInputData)
+                .toList();
+    }
+
+    /**
+     * Waits for the validation result of a chunk.
+     *
+     * @param fieldErrors The pending validation result.
+     * @return The invalid input data of each order, by position in the chunk.
+     * @throws DataProcessingException If the validation failed or the import was interrupted.
+     */
+    private List<List<InvalidInputData>> awaitValidation(Future<List<List<InvalidInputData>>> fieldErrors) {
+        try {
+            return fieldErrors.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DataProcessingException("Order import was interrupted");
+        } catch (ExecutionException ex) {
+            throw new DataProcessingException("Failed to validate imported orders. "
+                    + ex.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Resolves the existing customers referenced by the valid orders of a chunk with a single query.
+     *
+     * @param chunk       The orders parsed from the file.
+     * @param fieldErrors The validation errors of each order of the chunk.
+     * @return The ids of the referenced customers that exist in the database.
+     */
+    private Set<Long> findExistingCustomerIds(List<OrderRequestDto> chunk,
+                                              List<List<InvalidInputData>> fieldErrors) {
+        Set<Long> customerIds = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (fieldErrors.get(i).isEmpty()) {
+                customerIds.add(chunk.get(i).getCustomerId());
+            }
+        }
+        return customerIds.isEmpty() ? Set.of() : customerRepository.findExistingIds(customerIds);
+    }
+
+    /**
+     * Builds an {@link InvalidInputData} object from the given {@link FieldError}.
+     *
+     * @param error The {@link FieldError} to build the invalid input data from.
+     * @return An {@link InvalidInputData} object representing the error.
+     */
+    private InvalidInputData buildInputData(FieldError error) {
+        return InvalidInputData.builder()
+                .errorMessage(error.getDefaultMessage())
+                .incorrectField(error.getField())
+                .fieldValue(error.getRejectedValue()).build();
+    }
+
+    /**
+     * A parsed chunk of orders together with its pending validation result.
+     *
+     * @param orders      The orders parsed from the file.
+     * @param fieldErrors The validation result, one entry per order of the chunk.
+     */
+    private record PendingChunk(List<OrderRequestDto> orders, Future<List<List<InvalidInputData>>> fieldErrors) {
+    }
+
+    /**
+     * The mutable state of a running import. Only accessed from the thread running the import.
+     */
+    private static class ImportState {
+        private final long startTime;
+        private final List<InvalidInputData> invalidInputData = new ArrayList<>();
+        private int parsedOrders;
+        private int successfulImports;
+        private int failedImports;
+
+        private ImportState(long startTime) {
+            this.startTime = startTime;
+        }
+    }
+}
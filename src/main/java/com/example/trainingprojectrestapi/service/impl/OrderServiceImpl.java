@@ -1,41 +1,63 @@
 package com.example.trainingprojectrestapi.service.impl;
 
+import com.example.trainingprojectrestapi.config.OrderReportProperties;
+import com.example.trainingprojectrestapi.dto.request.OrderBulkDeleteRequestDto;
+import com.example.trainingprojectrestapi.dto.request.OrderBulkUpdateRequestDto;
 import com.example.trainingprojectrestapi.dto.request.OrderRequestDto;
 import com.example.trainingprojectrestapi.dto.response.OrderResponseDto;
 import com.example.trainingprojectrestapi.dto.response.RetrieveOrderResponseDto;
 import com.example.trainingprojectrestapi.entity.Customer;
 import com.example.trainingprojectrestapi.entity.Order;
 import com.example.trainingprojectrestapi.exception.DataProcessingException;
-import com.example.trainingprojectrestapi.exception.FileOperationException;
 import com.example.trainingprojectrestapi.mapper.OrderMapper;
+import com.example.trainingprojectrestapi.model.BulkOperationResult;
+import com.example.trainingprojectrestapi.model.CursorOrderResponse;
 import com.example.trainingprojectrestapi.model.ImportedResult;
-import com.example.trainingprojectrestapi.model.InvalidInputData;
+import com.example.trainingprojectrestapi.model.OrderAggregateResponse;
+import com.example.trainingprojectrestapi.model.OrderCriteria;
+import com.example.trainingprojectrestapi.model.OrderGrouping;
+import com.example.trainingprojectrestapi.model.OrderSnapshot;
 import com.example.trainingprojectrestapi.model.PaginatedOrderResponse;
-import com.example.trainingprojectrestapi.repository.CustomerRepository;
+import com.example.trainingprojectrestapi.model.RollupRebuildResult;
+import com.example.trainingprojectrestapi.repository.OrderBatchRepository;
+import com.example.trainingprojectrestapi.repository.OrderBatchRepository.BulkChange;
 import com.example.trainingprojectrestapi.repository.OrderRepository;
+import com.example.trainingprojectrestapi.repository.OrderRollupRepository;
+import com.example.trainingprojectrestapi.service.CacheInvalidationService;
 import com.example.trainingprojectrestapi.service.CustomerService;
 import com.example.trainingprojectrestapi.service.OrderService;
+import com.example.trainingprojectrestapi.util.CursorUtil;
 import com.example.trainingprojectrestapi.util.FileOperationUtil;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.Predicate;
+import com.example.trainingprojectrestapi.util.TimingUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
-import org.springframework.validation.BeanPropertyBindingResult;
-import org.springframework.validation.Errors;
-import org.springframework.validation.FieldError;
-import org.springframework.validation.Validator;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
 
-import static com.example.trainingprojectrestapi.util.ConstantsUtil.*;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.ORDERS_CACHE;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.ORDERS_IMPORT_TIMER;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.ORDERS_REPORT_FETCH_TIMER;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.ORDERS_REPORT_TIMER;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.ORDERS_REPORT_WRITE_TIMER;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.ORDERS_SEARCH_TIMER;
 
 /**
  * Implementation of the OrderService interface for managing orders.
@@ -43,12 +65,18 @@ import static com.example.trainingprojectrestapi.util.ConstantsUtil.*;
 @Service
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
-    private final Validator validator;
     private final OrderRepository orderRepository;
-    private final CustomerRepository customerRepository;
+    private final OrderRollupRepository orderRollupRepository;
+    private final OrderBatchRepository orderBatchRepository;
     private final CustomerService customerService;
+    private final OrderImporter orderImporter;
+    private final OrderReportProperties reportProperties;
+    private final CacheInvalidationService cacheInvalidationService;
+    private final ObjectMapper mapper;
+    private final MeterRegistry meterRegistry;
 
     @Override
+    @Transactional
     public OrderResponseDto addOrder(OrderRequestDto dto) {
         Customer customerFromDB = customerService.getCustomerIfExists(dto.getCustomerId());
 
@@ -59,170 +87,187 @@ public class OrderServiceImpl implements OrderService {
                 .description(dto.getDescription())
                 .totalPrice(dto.getTotalPrice())
                 .build());
+        orderRollupRepository.add(customerFromDB.getId(), savedOrder.getOrderDate(), savedOrder.isStatusPayment(),
+                savedOrder.getTotalPrice());
 
         return OrderMapper.INSTANCE.mapOrderToDto(savedOrder);
     }
 
     @Override
     public RetrieveOrderResponseDto getOrder(Long orderId) {
-        Order order = getOrderIfExists(orderId);
+        Order order = orderRepository.findWithCustomerById(orderId).orElseThrow(
+                () -> new DataProcessingException("Couldn't find order by id: " + orderId)
+        );
         return OrderMapper.INSTANCE.mapOrderToRetrieveDto(order);
     }
 
     @Override
+    @Cacheable(cacheNames = ORDERS_CACHE, sync = true)
+    public OrderSnapshot getOrderSnapshot(Long orderId) {
+        Order order = orderRepository.findWithCustomerById(orderId).orElseThrow(
+                () -> new DataProcessingException("Couldn't find order by id: " + orderId)
+        );
+
+        byte[] body;
+        try {
+            body = mapper.writeValueAsBytes(OrderMapper.INSTANCE.mapOrderToRetrieveDto(order));
+        } catch (JsonProcessingException ex) {
+            throw new DataProcessingException("Failed to serialize order by id: " + orderId);
+        }
+        return OrderSnapshot.builder()
+                .body(body)
+                .etag("\"" + order.getVersion() + "-" + DigestUtils.md5DigestAsHex(body) + "\"")
+                .lastModified(order.getUpdatedAt())
+                .build();
+    }
+
+    @Override
+    @Transactional
     public OrderResponseDto updateOrder(Long orderId, OrderRequestDto dto) {
         Customer customerFromDB = customerService.getCustomerIfExists(dto.getCustomerId());
 
         Order orderFromDB = getOrderIfExists(orderId);
+        orderRollupRepository.move(orderFromDB.getCustomer().getId(), orderFromDB.getOrderDate(),
+                orderFromDB.isStatusPayment(), orderFromDB.getTotalPrice(), dto);
 
         orderFromDB.setCustomer(customerFromDB);
         orderFromDB.setOrderDate(dto.getOrderDate());
         orderFromDB.setStatusPayment(dto.getStatusPayment());
         orderFromDB.setDescription(dto.getDescription());
         orderFromDB.setTotalPrice(dto.getTotalPrice());
+        cacheInvalidationService.evict(ORDERS_CACHE, orderId);
         return OrderMapper.INSTANCE.mapOrderToDto(orderRepository.save(orderFromDB));
     }
 
     @Override
+    @Transactional
     public void deleteOrder(Long orderId) {
         Order orderFromDB = getOrderIfExists(orderId);
         orderRepository.delete(orderFromDB);
+        orderRollupRepository.subtract(orderFromDB.getCustomer().getId(), orderFromDB.getOrderDate(),
+                orderFromDB.isStatusPayment(), orderFromDB.getTotalPrice());
+        cacheInvalidationService.evict(ORDERS_CACHE, orderId);
     }
 
     @Override
-    public PaginatedOrderResponse getOrdersByCriteria(Map<String, Object> criteria, short size, short page) {
-        Specification<Order> specification = buildSpecification(criteria);
-        Page<Order> orders = orderRepository.findAll(specification, PageRequest.of(page - 1, size));
+    @Transactional
+    public BulkOperationResult updateOrders(OrderBulkUpdateRequestDto dto) {
+        long startTime = System.nanoTime();
+        OrderCriteria criteria = parseBulkCriteria(dto.getIds(), dto.getCriteria());
+        boolean rollupChanged = dto.getOrderDate() != null || dto.getStatusPayment() != null
+                || dto.getTotalPrice() != null;
+        if (!rollupChanged && dto.getDescription() == null) {
+            throw new DataProcessingException("No order fields to update");
+        }
+
+        if (rollupChanged) {
+            orderRollupRepository.lock();
+        }
+        BulkChange change = orderBatchRepository.updateAll(selectedIds(dto.getIds()), criteria, dto);
+        int rebuiltBuckets = rollupChanged ? orderRollupRepository.rebuildBuckets(change.buckets()) : 0;
+        return completeBulkOperation(change, rebuiltBuckets, startTime);
+    }
 
-        List<OrderResponseDto> ordersDto = orders.getContent().stream()
-                .map(OrderMapper.INSTANCE::mapOrderToDto)
-                .toList();
+    @Override
+    @Transactional
+    public BulkOperationResult deleteOrders(OrderBulkDeleteRequestDto dto) {
+        long startTime = System.nanoTime();
+        OrderCriteria criteria = parseBulkCriteria(dto.getIds(), dto.getCriteria());
+
+        orderRollupRepository.lock();
+        BulkChange change = orderBatchRepository.deleteAll(selectedIds(dto.getIds()), criteria);
+        return completeBulkOperation(change, orderRollupRepository.rebuildBuckets(change.buckets()), startTime);
+    }
+
+    @Override
+    @Timed(ORDERS_SEARCH_TIMER)
+    public PaginatedOrderResponse getOrdersByCriteria(Map<String, Object> criteria, short size, short page,
+                                                      boolean count) {
+        OrderCriteria orderCriteria = OrderCriteria.from(criteria);
+        PageRequest pageRequest = PageRequest.of(page - 1, size);
+
+        if (!count) {
+            Slice<OrderResponseDto> orders = orderRepository.findSliceAsDto(orderCriteria, pageRequest);
+            return PaginatedOrderResponse.builder()
+                    .page(page)
+                    .pageSize(size)
+                    .hasNext(orders.hasNext())
+                    .items(orders.getContent())
+                    .build();
+        }
+        Page<OrderResponseDto> orders = orderRepository.findAllAsDto(orderCriteria, pageRequest);
 
         return PaginatedOrderResponse.builder()
                 .totalItems(orders.getTotalElements())
                 .page(page)
                 .totalPages(orders.getTotalPages())
                 .pageSize(size)
-                .items(ordersDto)
+                .hasNext(orders.hasNext())
+                .items(orders.getContent())
                 .build();
     }
 
     @Override
-    public List<OrderResponseDto> getOrdersByCriteria(Map<String, Object> criteria) {
-        Specification<Order> specification = buildSpecification(criteria);
+    public CursorOrderResponse scrollOrdersByCriteria(Map<String, Object> criteria, short size, String cursor) {
+        if (size < 1) {
+            throw new DataProcessingException("Invalid size: " + size);
+        }
+        List<OrderResponseDto> orders = orderRepository.findAllAsDtoAfter(OrderCriteria.from(criteria),
+                CursorUtil.decodeCursor(cursor), size + 1);
 
-        return orderRepository.findAll(specification).stream()
-                .map(OrderMapper.INSTANCE::mapOrderToDto)
-                .collect(Collectors.toList());
+        boolean hasNext = orders.size() > size;
+        List<OrderResponseDto> items = hasNext ? orders.subList(0, size) : orders;
+
+        return CursorOrderResponse.builder()
+                .pageSize(size)
+                .nextCursor(hasNext ? CursorUtil.encodeCursor(items.get(items.size() - 1).getId()) : null)
+                .items(items)
+                .build();
     }
 
     @Override
-    public ImportedResult processOrders(MultipartFile file) {
-        List<InvalidInputData> invalidInputData = new ArrayList<>();
-
-        List<OrderRequestDto> ordersFromFile = getOrderRequestDtoList(file);
-
-        List<OrderResponseDto> savedOrders = ordersFromFile.stream()
-                .filter(order -> isOrderValid(order, invalidInputData))
-                .map(this::addOrder)
-                .toList();
+    public OrderAggregateResponse aggregateOrdersByCriteria(Map<String, Object> criteria, String groupBy) {
+        OrderGrouping grouping = OrderGrouping.fromKey(groupBy);
 
-        return ImportedResult.builder()
-                .failedImports(ordersFromFile.size() - savedOrders.size())
-                .successfulImports(savedOrders.size())
-                .invalidInputData(invalidInputData)
+        return OrderAggregateResponse.builder()
+                .groupBy(grouping.getKey())
+                .items(orderRepository.aggregate(OrderCriteria.from(criteria), grouping))
                 .build();
     }
 
-    /**
-     * Checks if the given order is valid and populates the list of invalid input data.
-     *
-     * @param order             The {@link OrderRequestDto} to validate.
-     * @param invalidInputData The list to populate with invalid input data.
-     * @return {@code true} if the order is valid, {@code false} otherwise.
-     */
-    private boolean isOrderValid(OrderRequestDto order, List<InvalidInputData> invalidInputData) {
-        Errors errors = new BeanPropertyBindingResult(order, OrderRequestDto.class.getSimpleName());
-        validator.validate(order, errors);
-        if (errors.hasErrors()) {
-            errors.getFieldErrors().forEach(error -> invalidInputData.add(buildInputData(error)));
-            return false;
-        }
-        if (!customerRepository.existsById(order.getCustomerId())) {
-            invalidInputData.add(InvalidInputData.builder()
-                    .errorMessage(ERROR_MESSAGE)
-                    .incorrectField(CUSTOMER_ID_KEY)
-                    .fieldValue(order.getCustomerId())
-                    .build());
-            return false;
-        }
-        return true;
-    }
+    @Override
+    public RollupRebuildResult rebuildRollup(LocalDate from, LocalDate to) {
+        long startTime = System.nanoTime();
+        int rebuiltBuckets = orderRollupRepository.rebuild(from, to);
 
-    /**
-     * Builds an {@link InvalidInputData} object from the given {@link FieldError}.
-     *
-     * @param error The {@link FieldError} to build the invalid input data from.
-     * @return An {@link InvalidInputData} object representing the error.
-     */
-    private InvalidInputData buildInputData(FieldError error) {
-        return InvalidInputData.builder()
-                .errorMessage(error.getDefaultMessage())
-                .incorrectField(error.getField())
-                .fieldValue(error.getRejectedValue()).build();
+        return RollupRebuildResult.builder()
+                .rebuiltBuckets(rebuiltBuckets)
+                .durationMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime))
+                .build();
     }
 
-    /**
-     * Retrieves a list of {@link OrderRequestDto} objects from the provided multipart file.
-     *
-     * @param file The {@link MultipartFile} containing the JSON data.
-     * @return A list of {@link OrderRequestDto} objects parsed from the JSON file.
-     * @throws FileOperationException If the file is not in JSON format or if it is empty.
-     */
-    private List<OrderRequestDto> getOrderRequestDtoList(MultipartFile file) {
-        if (!FileOperationUtil.isJsonFile(file)) {
-            throw new FileOperationException("Received file " + file.getOriginalFilename()
-            + "is not in JSON format");
-        }
-        List<OrderRequestDto> jsonOrderList = FileOperationUtil.parseJsonFileData(file);
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(ORDERS_REPORT_TIMER)
+    public void exportOrdersByCriteria(Map<String, Object> criteria, OutputStream outputStream) throws IOException {
+        LongAdder fetchNanos = new LongAdder();
+        long startTime = System.nanoTime();
 
-        if (jsonOrderList.isEmpty()) {
-            throw new FileOperationException("Received empty json file with no data");
+        try (Stream<OrderResponseDto> orders = TimingUtil.timeProduction(orderRepository.streamAllAsDto(
+                OrderCriteria.from(criteria), reportProperties.getFetchSize()), fetchNanos)) {
+            FileOperationUtil.exportToCSV(orders, outputStream);
+        } finally {
+            long fetchTime = fetchNanos.sum();
+            meterRegistry.timer(ORDERS_REPORT_FETCH_TIMER).record(fetchTime, TimeUnit.NANOSECONDS);
+            meterRegistry.timer(ORDERS_REPORT_WRITE_TIMER)
+                    .record(System.nanoTime() - startTime - fetchTime, TimeUnit.NANOSECONDS);
         }
-
-        return jsonOrderList;
     }
 
-    /**
-     * Builds a {@link Specification} based on the provided criteria.
-     *
-     * @param criteria The criteria map containing search parameters.
-     * @return A {@link Specification} representing the search criteria.
-     */
-    private Specification<Order> buildSpecification(Map<String, Object> criteria) {
-        return (root, query, criteriaBuilder) -> {
-            Predicate predicate = criteriaBuilder.conjunction();
-            for (Map.Entry<String, Object> entry : criteria.entrySet()) {
-                String key = entry.getKey();
-                Object value = entry.getValue();
-                if (value != null) {
-                    if (CUSTOMER_ID_KEY.equals(key)) {
-                        Join<Order, Customer> customerJoin = root.join(CUSTOMER_JOIN_PROPERTY);
-                        predicate = criteriaBuilder.and(predicate,
-                                criteriaBuilder.equal(customerJoin.get(CUSTOMER_ID_PROPERTY), value));
-                    } else if (ORDER_DATE_KEY.equals(key)) {
-                        LocalDate dateValue = LocalDate.parse((String) value);
-                        predicate = criteriaBuilder.and(predicate, criteriaBuilder.equal(root.get(key), dateValue));
-                    } else if (DESCRIPTION_KEY.equals(key)) {
-                        predicate = criteriaBuilder.and(predicate,
-                                criteriaBuilder.like(root.get(key), "%" + value + "%"));
-                    } else if (TOTAL_PRICE_KEY.equals(key)) {
-                        predicate = criteriaBuilder.and(predicate, criteriaBuilder.equal(root.get(key), value));
-                    }
-                }
-            }
-            return predicate;
-        };
+    @Override
+    @Timed(ORDERS_IMPORT_TIMER)
+    public ImportedResult processOrders(MultipartFile file) {
+        return orderImporter.importOrders(file);
     }
 
     /**
@@ -237,4 +282,35 @@ public class OrderServiceImpl implements OrderService {
                 () -> new DataProcessingException("Couldn't find order by id: " + orderId)
         );
     }
+
+    /**
+     * Parses the criteria of a bulk operation. A bulk operation without ids and criteria is rejected
+     * instead of being applied to every order.
+     *
+     * @param ids      The ids of the selected orders.
+     * @param criteria A {@link Map} containing the search criteria of the selected orders.
+     * @return The parsed {@link OrderCriteria}.
+     */
+    private OrderCriteria parseBulkCriteria(List<Long> ids, Map<String, Object> criteria) {
+        OrderCriteria orderCriteria = OrderCriteria.from(criteria == null ? Map.of() : criteria);
+        if (selectedIds(ids) == null && orderCriteria.getShape().isEmpty()) {
+            throw new DataProcessingException("Bulk operations require order ids or criteria");
+        }
+        return orderCriteria;
+    }
+
+    private List<Long> selectedIds(List<Long> ids) {
+        return ids == null || ids.isEmpty() ? null : ids;
+    }
+
+    private BulkOperationResult completeBulkOperation(BulkChange change, int rebuiltBuckets, long startTime) {
+        if (change.affectedOrders() > 0) {
+            cacheInvalidationService.clear(ORDERS_CACHE);
+        }
+        return BulkOperationResult.builder()
+                .affectedOrders(change.affectedOrders())
+                .rebuiltBuckets(rebuiltBuckets)
+                .durationMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime))
+                .build();
+    }
 }
@@ -0,0 +1,112 @@
+package com.example.trainingprojectrestapi.service.impl;
+
+import com.example.trainingprojectrestapi.service.CacheInvalidationChannel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.CACHE_INVALIDATION_CHANNEL_PROPERTY;
+
+/**
+ * Cache invalidation channel shared by all application nodes through PostgreSQL {@code LISTEN/NOTIFY},
+ * so no additional infrastructure is needed. A listener thread keeps one pooled connection for the
+ * {@code LISTEN} and reconnects after failures; invalidations missed meanwhile are bounded by the cache TTL.
+ * Notifications published within a transaction are only delivered once it commits.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = CACHE_INVALIDATION_CHANNEL_PROPERTY, havingValue = "postgres")
+public class PostgresCacheInvalidationChannel implements CacheInvalidationChannel, SmartLifecycle {
+    private static final String CHANNEL_NAME = "cache_invalidation";
+    private static final String KEY_SEPARATOR = ":";
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final List<BiConsumer<String, Long>> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @Override
+    public void publish(String cacheName, Long key) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", resultSet -> null, CHANNEL_NAME,
+                cacheName + KEY_SEPARATOR + (key == null ? "" : key));
+    }
+
+    @Override
+    public void subscribe(BiConsumer<String, Long> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        listenerThread.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL_NAME);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                if (running) {
+                    log.warn("Cache invalidation listener failed, reconnecting", ex);
+                    pause();
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        int separatorIndex = payload.lastIndexOf(KEY_SEPARATOR);
+        String cacheName = payload.substring(0, separatorIndex);
+        String keyValue = payload.substring(separatorIndex + 1);
+        Long key = keyValue.isEmpty() ? null : Long.valueOf(keyValue);
+        listeners.forEach(listener -> listener.accept(cacheName, key));
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(POLL_TIMEOUT_MILLIS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
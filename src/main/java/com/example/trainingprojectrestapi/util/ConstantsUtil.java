@@ -5,14 +5,48 @@ package com.example.trainingprojectrestapi.util;
  */
 public class ConstantsUtil {
     public static final String CUSTOMER_ID_KEY = "customerId";
+    public static final String CUSTOMER_IDS_KEY = "customerIds";
     public static final String ORDER_DATE_KEY = "orderDate";
+    public static final String ORDER_DATE_FROM_KEY = "orderDateFrom";
+    public static final String ORDER_DATE_TO_KEY = "orderDateTo";
+    public static final String STATUS_PAYMENT_KEY = "statusPayment";
     public static final String DESCRIPTION_KEY = "description";
+    public static final String DESCRIPTION_SEARCH_KEY = "descriptionSearch";
     public static final String TOTAL_PRICE_KEY = "totalPrice";
+    public static final String TOTAL_PRICE_MIN_KEY = "totalPriceMin";
+    public static final String TOTAL_PRICE_MAX_KEY = "totalPriceMax";
     public static final String CUSTOMER_JOIN_PROPERTY = "customer";
     public static final String CUSTOMER_ID_PROPERTY = "id";
+    public static final String ID_PROPERTY = "id";
+    public static final String DESCRIPTION_MATCHES_FUNCTION = "description_matches";
+    public static final String DESCRIPTION_RANK_FUNCTION = "description_rank";
+    public static final String WEEK_START_FUNCTION = "week_start";
+    public static final String MONTH_START_FUNCTION = "month_start";
     public static final String REPORT_FILE_NAME = "orders_report.csv";
+    public static final int REPORT_FLUSH_INTERVAL = 1000;
+    public static final String CUSTOMER_STREAM_FETCH_SIZE = "1000";
     public static final String JSON_FILE_EXTENSION = ".json";
     public static final String ERROR_MESSAGE = "Couldn't find customer";
+    public static final String ORDER_VALIDATION_EXECUTOR = "orderValidationExecutor";
+    public static final String IMPORT_JOB_EXECUTOR = "importJobExecutor";
+    public static final String IMPORT_JOB_HEARTBEAT_EXECUTOR = "importJobHeartbeatExecutor";
+    public static final String ORDERS_SEARCH_TIMER = "orders.search";
+    public static final String ORDERS_REPORT_TIMER = "orders.report";
+    public static final String ORDERS_REPORT_FETCH_TIMER = "orders.report.fetch";
+    public static final String ORDERS_REPORT_WRITE_TIMER = "orders.report.write";
+    public static final String ORDERS_IMPORT_TIMER = "orders.import";
+    public static final String ORDERS_IMPORT_ROWS_COUNTER = "orders.import.rows";
+    public static final String CUSTOMERS_CACHE = "customers";
+    public static final String ORDERS_CACHE = "orders";
+    public static final String CACHE_INVALIDATION_CHANNEL_PROPERTY = "cache.invalidation.channel";
+    public static final String REACTIVE_ORDERS_PROPERTY = "orders.reactive.enabled";
+    public static final String QUERY_DIAGNOSTICS_PROPERTY = "diagnostics.queries.enabled";
+    public static final String QUERY_STATEMENTS_HEADER = "X-Query-Statements";
+    public static final String QUERY_ENTITIES_LOADED_HEADER = "X-Query-Entities-Loaded";
+    public static final String QUERY_FLUSHES_HEADER = "X-Query-Flushes";
+    public static final String QUERY_STATEMENTS_SUMMARY = "jdbc.request.statements";
+    public static final String QUERY_ENTITIES_LOADED_SUMMARY = "hibernate.request.entities.loaded";
+    public static final String QUERY_FLUSHES_SUMMARY = "hibernate.request.flushes";
     public final static String PHONE_NUMBER_PATTERN = "^380[0-9]{9}$";
     public final static String EMAIL_PATTERN = "^(?=.{1,64}@)[A-Za-z0-9_-]+(\\.[A-Za-z0-9_-]+)*@"
             + "[^-][A-Za-z0-9-]+(\\.[A-Za-z0-9-]+)*(\\.[A-Za-z]{2,})$";
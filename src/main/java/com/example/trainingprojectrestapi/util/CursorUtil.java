@@ -0,0 +1,41 @@
+package com.example.trainingprojectrestapi.util;
+
+import com.example.trainingprojectrestapi.exception.DataProcessingException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Utility class for the opaque continuation tokens of keyset (cursor-based) slices.
+ */
+public class CursorUtil {
+
+    /**
+     * Encodes the id of the last record of a slice into an opaque continuation token.
+     *
+     * @param lastId The id of the last record of the slice.
+     * @return The URL-safe continuation token.
+     */
+    public static String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token into the id of the last record of the previous slice.
+     *
+     * @param cursor The continuation token, or {@code null} for the first slice.
+     * @return The id of the last record of the previous slice, or {@code null} for the first slice.
+     * @throws DataProcessingException If the token is malformed.
+     */
+    public static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException ex) {
+            throw new DataProcessingException("Invalid cursor: " + cursor);
+        }
+    }
+}
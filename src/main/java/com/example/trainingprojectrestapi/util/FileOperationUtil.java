@@ -3,23 +3,33 @@ package com.example.trainingprojectrestapi.util;
 import com.example.trainingprojectrestapi.dto.request.OrderRequestDto;
 import com.example.trainingprojectrestapi.dto.response.OrderResponseDto;
 import com.example.trainingprojectrestapi.exception.FileOperationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.opencsv.CSVWriter;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static com.example.trainingprojectrestapi.util.ConstantsUtil.JSON_FILE_EXTENSION;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.REPORT_FLUSH_INTERVAL;
 import static java.util.Objects.nonNull;
 
 /**
  * Utility class for file-related operations.
  */
 public class FileOperationUtil {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
 
     /**
      * Exports a list of orders to a CSV file.
@@ -29,10 +39,26 @@ public class FileOperationUtil {
      * @throws IOException If an I/O error occurs while writing the CSV data.
      */
     public static void exportToCSV(List<OrderResponseDto> orders, OutputStream outputStream) throws IOException {
+        exportToCSV(orders.stream(), outputStream);
+    }
+
+    /**
+     * Exports a stream of orders to a CSV file, row by row. The header is flushed right away and
+     * the written rows every {@code REPORT_FLUSH_INTERVAL} orders, so the client starts receiving data
+     * before the whole result has been read.
+     *
+     * @param orders       The stream of orders to export.
+     * @param outputStream The output stream to write the CSV data.
+     * @throws IOException If an I/O error occurs while writing the CSV data.
+     */
+    public static void exportToCSV(Stream<OrderResponseDto> orders, OutputStream outputStream) throws IOException {
         try (CSVWriter writer = new CSVWriter(new OutputStreamWriter(outputStream))) {
             writer.writeNext(new String[]{"Customer ID", "Order Date", "Description", "Total Price"});
+            writer.flush();
 
-            for (OrderResponseDto order : orders) {
+            int writtenRows = 0;
+            for (Iterator<OrderResponseDto> iterator = orders.iterator(); iterator.hasNext(); ) {
+                OrderResponseDto order = iterator.next();
                 String[] data = {
                     String.valueOf(order.getCustomerId()),
                     order.getOrderDate().toString(),
@@ -40,8 +66,34 @@ public class FileOperationUtil {
                     order.getTotalPrice().toString()
                 };
                 writer.writeNext(data);
+                if (++writtenRows % REPORT_FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a stream of records as newline-delimited JSON, one object per line. The written lines
+     * are flushed every {@code REPORT_FLUSH_INTERVAL} records, and the output stream is left open.
+     *
+     * @param records      The stream of records to write.
+     * @param outputStream The output stream to write the NDJSON data.
+     * @throws IOException If an I/O error occurs while writing the NDJSON data.
+     */
+    public static void exportToNdjson(Stream<?> records, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        int writtenRecords = 0;
+        for (Iterator<?> iterator = records.iterator(); iterator.hasNext(); ) {
+            generator.writeObject(iterator.next());
+            generator.writeRaw('\n');
+            if (++writtenRecords % REPORT_FLUSH_INTERVAL == 0) {
+                generator.flush();
             }
         }
+        generator.close();
     }
 
     /**
@@ -56,17 +108,43 @@ public class FileOperationUtil {
     }
 
     /**
-     * Parses data from a JSON file into a list of order request DTOs.
+     * Parses data from a JSON file into order request DTOs, streaming the array element by element.
+     * Only one chunk of orders is held in memory at a time, regardless of the file size.
      *
-     * @param file The multipart file containing the JSON data.
-     * @return A list of order request DTOs parsed from the JSON file.
+     * @param inputStream   The stream containing a JSON array of orders.
+     * @param chunkSize     The maximum number of orders passed to the consumer at once.
+     * @param chunkConsumer The consumer receiving each parsed chunk, in file order.
+     * @return The total number of orders parsed from the file.
      * @throws FileOperationException If an error occurs while parsing the JSON data.
      */
-    public static List<OrderRequestDto> parseJsonFileData(MultipartFile file) {
-        try {
-            ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
-            return objectMapper.readValue(file.getInputStream(),
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, OrderRequestDto.class));
+    public static int parseJsonFileData(InputStream inputStream, int chunkSize,
+                                        Consumer<List<OrderRequestDto>> chunkConsumer) {
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(inputStream)) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return 0;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw new FileOperationException("Expected a JSON array of orders, but found " + token);
+            }
+
+            int parsedOrders = 0;
+            List<OrderRequestDto> chunk = new ArrayList<>(chunkSize);
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new FileOperationException("Unexpected end of JSON array of orders");
+                }
+                chunk.add(OBJECT_MAPPER.readValue(parser, OrderRequestDto.class));
+                parsedOrders++;
+                if (chunk.size() == chunkSize) {
+                    chunkConsumer.accept(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                chunkConsumer.accept(chunk);
+            }
+            return parsedOrders;
         } catch (IOException ioException) {
             throw new FileOperationException(ioException.getMessage());
         }
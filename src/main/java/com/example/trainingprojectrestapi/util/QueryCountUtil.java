@@ -0,0 +1,52 @@
+package com.example.trainingprojectrestapi.util;
+
+import com.example.trainingprojectrestapi.model.QueryStatistics;
+
+import java.util.function.Consumer;
+
+/**
+ * Utility class holding the database activity counters of the request processed by the current thread.
+ * Activity happening on threads without started counters, such as background import jobs, is not counted.
+ */
+public class QueryCountUtil {
+    private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Starts counting the database activity of the current thread.
+     *
+     * @return The counters of the current thread.
+     */
+    public static QueryStatistics start() {
+        QueryStatistics statistics = new QueryStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * Stops counting the database activity of the current thread.
+     */
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Returns the counters of the current thread.
+     *
+     * @return The counters, or {@code null} if counting was not started on the current thread.
+     */
+    public static QueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Updates the counters of the current thread, if counting was started on it.
+     *
+     * @param update The update of the counters.
+     */
+    public static void count(Consumer<QueryStatistics> update) {
+        QueryStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            update.accept(statistics);
+        }
+    }
+}
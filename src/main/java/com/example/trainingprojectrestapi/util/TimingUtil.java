@@ -0,0 +1,52 @@
+package com.example.trainingprojectrestapi.util;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Utility class for timing the parts of streamed processing.
+ */
+public class TimingUtil {
+
+    /**
+     * Wraps a sequential stream so that the time spent producing its elements is accumulated, excluding
+     * the time spent by the downstream operations consuming them. For a stream backed by a database cursor
+     * this is the time spent fetching and mapping rows. Closing the returned stream closes the source stream.
+     *
+     * @param stream       The source stream.
+     * @param elapsedNanos The accumulator of the time spent producing elements, in nanoseconds.
+     * @param <T>          The type of the stream elements.
+     * @return A stream of the same elements.
+     */
+    public static <T> Stream<T> timeProduction(Stream<T> stream, LongAdder elapsedNanos) {
+        Spliterator<T> source = stream.spliterator();
+
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<T>(source.estimateSize(),
+                source.characteristics()) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                ElementHolder<T> holder = new ElementHolder<>();
+                long startTime = System.nanoTime();
+                boolean advanced = source.tryAdvance(holder);
+                elapsedNanos.add(System.nanoTime() - startTime);
+                if (advanced) {
+                    action.accept(holder.element);
+                }
+                return advanced;
+            }
+        }, false).onClose(stream::close);
+    }
+
+    private static class ElementHolder<T> implements Consumer<T> {
+        private T element;
+
+        @Override
+        public void accept(T element) {
+            this.element = element;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+CREATE INDEX IF NOT EXISTS idx_orders_customer_id_order_date ON orders (customer_id, order_date);
+
+CREATE INDEX IF NOT EXISTS idx_orders_order_date ON orders (order_date);
+
+CREATE INDEX IF NOT EXISTS idx_orders_total_price ON orders (total_price);
@@ -0,0 +1,7 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_orders_description_trgm
+    ON orders USING GIN (description gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_orders_description_fts
+    ON orders USING GIN (to_tsvector('english', coalesce(description, '')));
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS import_jobs
+(
+    id                 SERIAL       PRIMARY KEY,
+    file_name          VARCHAR(255),
+    status             VARCHAR(20)  NOT NULL,
+    parsed_orders      INTEGER      NOT NULL DEFAULT 0,
+    successful_imports INTEGER      NOT NULL DEFAULT 0,
+    failed_imports     INTEGER      NOT NULL DEFAULT 0,
+    invalid_input_data TEXT,
+    error_message      TEXT,
+    created_at         TIMESTAMP    NOT NULL,
+    started_at         TIMESTAMP,
+    finished_at        TIMESTAMP
+);
@@ -0,0 +1,21 @@
+CREATE TABLE IF NOT EXISTS order_daily_rollups
+(
+    customer_id          BIGINT         NOT NULL,
+    order_date           DATE           NOT NULL,
+    order_count          BIGINT         NOT NULL,
+    total_price_sum      DECIMAL(16,2)  NOT NULL,
+    paid_count           BIGINT         NOT NULL,
+    paid_total_price_sum DECIMAL(16,2)  NOT NULL,
+    PRIMARY KEY (customer_id, order_date),
+    FOREIGN KEY (customer_id) REFERENCES customers (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_daily_rollups_order_date ON order_daily_rollups (order_date);
+
+INSERT INTO order_daily_rollups
+    (customer_id, order_date, order_count, total_price_sum, paid_count, paid_total_price_sum)
+SELECT customer_id, order_date, count(*), sum(total_price),
+       count(*) FILTER (WHERE status_payment), coalesce(sum(total_price) FILTER (WHERE status_payment), 0)
+FROM orders
+GROUP BY customer_id, order_date
+ON CONFLICT (customer_id, order_date) DO NOTHING;
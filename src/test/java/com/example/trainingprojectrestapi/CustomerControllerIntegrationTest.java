@@ -2,7 +2,9 @@ package com.example.trainingprojectrestapi;
 
 import com.example.trainingprojectrestapi.dto.request.CustomerRequestDto;
 import com.example.trainingprojectrestapi.entity.Customer;
+import com.example.trainingprojectrestapi.exception.DataProcessingException;
 import com.example.trainingprojectrestapi.repository.CustomerRepository;
+import com.example.trainingprojectrestapi.service.CustomerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,9 +19,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Random;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -33,6 +38,8 @@ public class CustomerControllerIntegrationTest {
     private ObjectMapper objectMapper;
     @Autowired
     private CustomerRepository customerRepository;
+    @Autowired
+    private CustomerService customerService;
     private Customer customer;
     private CustomerRequestDto customerRequestDto;
 
@@ -64,6 +71,53 @@ public class CustomerControllerIntegrationTest {
                 .andExpect(jsonPath("$", hasSize(size)));
     }
 
+    @Test
+    @DisplayName("givenScrollCustomers_whenFollowingCursors_thenGetAllCustomersFromDb")
+    public void testScrollCustomers_ok() throws Exception {
+        int size = customerRepository.findAll().size();
+        int scrolledCustomers = 0;
+        String cursor = "";
+
+        do {
+            String slice = mockMvc.perform(get("/api/customers/_scroll")
+                            .param("size", "2")
+                            .param("cursor", cursor))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.pageSize", is(2)))
+                    .andReturn().getResponse().getContentAsString();
+            scrolledCustomers += objectMapper.readTree(slice).get("items").size();
+            cursor = objectMapper.readTree(slice).path("nextCursor").textValue();
+        } while (cursor != null);
+
+        assertThat(scrolledCustomers).isEqualTo(size);
+
+        mockMvc.perform(get("/api/customers/_scroll")
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid size: 0")));
+
+        mockMvc.perform(get("/api/customers/_scroll")
+                        .param("size", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid size: -1")));
+    }
+
+    @Test
+    @DisplayName("givenStreamCustomers_whenValidData_thenGetOneJsonLinePerCustomer")
+    public void testStreamCustomers_ok() throws Exception {
+        int size = customerRepository.findAll().size();
+
+        String content = mockMvc.perform(get("/api/customers/_stream"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = content.split("\n");
+        assertThat(lines).hasSize(size);
+        assertThat(objectMapper.readTree(lines[lines.length - 1]).get("email").textValue())
+                .isEqualTo("test_alice@test.test");
+    }
+
     @Test
     @DisplayName("givenAddCustomer_whenValidInput_thenSuccess")
     public void testAddCustomer_ok() throws Exception {
@@ -143,6 +197,23 @@ public class CustomerControllerIntegrationTest {
         assertFalse(customerRepository.existsById(customer.getId()));
     }
 
+    @Test
+    @DisplayName("givenCachedCustomer_whenUpdateAndDeleteCustomer_thenCacheIsInvalidated")
+    public void testGetCustomerIfExists_cacheInvalidated_ok() throws Exception {
+        Customer cachedCustomer = customerService.getCustomerIfExists(customer.getId());
+        assertSame(cachedCustomer, customerService.getCustomerIfExists(customer.getId()));
+
+        mockMvc.perform(put("/api/customers/{id}", customer.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(customerRequestDto)))
+                .andExpect(status().isOk());
+        assertThat(customerService.getCustomerIfExists(customer.getId()).getFirstName()).isEqualTo("Bob");
+
+        mockMvc.perform(delete("/api/customers/{id}", customer.getId()))
+                .andExpect(status().isOk());
+        assertThrows(DataProcessingException.class, () -> customerService.getCustomerIfExists(customer.getId()));
+    }
+
     private Long generateNonExistentId() {
         Random random = new Random();
         long id;
@@ -0,0 +1,168 @@
+package com.example.trainingprojectrestapi;
+
+import com.example.trainingprojectrestapi.config.OrderImportProperties;
+import com.example.trainingprojectrestapi.entity.ImportJob;
+import com.example.trainingprojectrestapi.entity.ImportJobStatus;
+import com.example.trainingprojectrestapi.entity.Order;
+import com.example.trainingprojectrestapi.repository.ImportJobRepository;
+import com.example.trainingprojectrestapi.repository.OrderRepository;
+import com.example.trainingprojectrestapi.service.impl.ImportJobServiceImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.StreamUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests of the asynchronous import jobs. The jobs run on their own threads and transactions,
+ * so the test data is committed and removed after every test instead of being rolled back.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ImportJobIntegrationTest {
+    private static final long JOB_TIMEOUT_MILLIS = 30_000;
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private ImportJobRepository importJobRepository;
+    @Autowired
+    private ImportJobServiceImpl importJobService;
+    @Autowired
+    private OrderImportProperties importProperties;
+    private final List<Long> jobIds = new ArrayList<>();
+    private Set<Long> existingOrderIds;
+
+    @BeforeEach
+    void setUp() {
+        existingOrderIds = orderRepository.findAll().stream()
+                .map(Order::getId)
+                .collect(Collectors.toSet());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        List<Long> importedOrderIds = orderRepository.findAll().stream()
+                .map(Order::getId)
+                .filter(id -> !existingOrderIds.contains(id))
+                .toList();
+        if (!importedOrderIds.isEmpty()) {
+            mockMvc.perform(post("/api/orders/_bulk/delete")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Map.of("ids", importedOrderIds))))
+                    .andExpect(status().isOk());
+        }
+        importJobRepository.deleteAllById(jobIds);
+    }
+
+    @Test
+    @DisplayName("givenAsyncUpload_whenJobPolled_thenJobCompletesWithResult")
+    public void testAsyncUploadOrders_ok() throws Exception {
+        ClassPathResource resource = new ClassPathResource("test_orders.json");
+        byte[] content = StreamUtils.copyToByteArray(resource.getInputStream());
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "test_orders.json", "application/json", content);
+
+        String accepted = mockMvc.perform(multipart("/api/orders/upload")
+                        .file(file)
+                        .param("async", "true"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.fileName", is("test_orders.json")))
+                .andExpect(jsonPath("$.status", is("QUEUED")))
+                .andExpect(jsonPath("$.parsedOrders", is(0)))
+                .andReturn().getResponse().getContentAsString();
+        long jobId = objectMapper.readTree(accepted).get("id").asLong();
+        jobIds.add(jobId);
+
+        JsonNode job = pollJob(jobId);
+        List<String> statuses = new ArrayList<>(List.of(job.get("status").asText()));
+        int parsedOrders = job.get("parsedOrders").asInt();
+        long deadline = System.currentTimeMillis() + JOB_TIMEOUT_MILLIS;
+        while (!Set.of("COMPLETED", "FAILED").contains(job.get("status").asText())
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            job = pollJob(jobId);
+            assertThat(job.get("parsedOrders").asInt()).isGreaterThanOrEqualTo(parsedOrders);
+            parsedOrders = job.get("parsedOrders").asInt();
+            statuses.add(job.get("status").asText());
+        }
+
+        assertThat(statuses).isSubsetOf("QUEUED", "RUNNING", "COMPLETED").endsWith("COMPLETED");
+        assertThat(job.get("parsedOrders").asInt()).isEqualTo(20);
+        assertThat(job.get("successfulImports").asInt()).isEqualTo(18);
+        assertThat(job.get("failedImports").asInt()).isEqualTo(2);
+        assertThat(job.get("startedAt").isNull()).isFalse();
+        assertThat(job.get("finishedAt").isNull()).isFalse();
+        assertThat(job.get("result").get("successfulImports").asInt()).isEqualTo(18);
+        assertThat(job.get("result").get("invalidInputData").get(0).get("incorrectField").asText())
+                .isEqualTo("orderDate");
+
+        mockMvc.perform(get("/api/orders/upload/{jobId}", Long.MAX_VALUE))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Couldn't find import job by id: " + Long.MAX_VALUE)));
+    }
+
+    @Test
+    @DisplayName("givenUnfinishedJobs_whenHeartbeat_thenOnlyJobsWithExpiredLeaseFailed")
+    public void testHeartbeat_failsStaleJobs_ok() {
+        ImportJob staleJob = saveJob(LocalDateTime.now().minus(importProperties.getJobLease()).minusMinutes(1));
+        ImportJob freshJob = saveJob(LocalDateTime.now());
+
+        importJobService.heartbeat();
+
+        ImportJob failedJob = importJobRepository.findById(staleJob.getId()).orElseThrow();
+        assertThat(failedJob.getStatus()).isEqualTo(ImportJobStatus.FAILED);
+        assertThat(failedJob.getErrorMessage())
+                .isEqualTo("Import stopped sending heartbeats, its application instance was likely stopped");
+        assertThat(failedJob.getFinishedAt()).isNotNull();
+        assertThat(importJobRepository.findById(freshJob.getId()).orElseThrow().getStatus())
+                .isEqualTo(ImportJobStatus.RUNNING);
+    }
+
+    private JsonNode pollJob(long jobId) throws Exception {
+        String job = mockMvc.perform(get("/api/orders/upload/{jobId}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is((int) jobId)))
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(job);
+    }
+
+    private ImportJob saveJob(LocalDateTime heartbeatAt) {
+        ImportJob job = importJobRepository.save(ImportJob.builder()
+                .fileName("test_orders.json")
+                .status(ImportJobStatus.RUNNING)
+                .createdAt(heartbeatAt)
+                .startedAt(heartbeatAt)
+                .heartbeatAt(heartbeatAt)
+                .build());
+        jobIds.add(job.getId());
+        return job;
+    }
+}
@@ -24,18 +24,23 @@ import org.springframework.util.StreamUtils;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
+import static com.example.trainingprojectrestapi.QueryBudget.entitiesLoadedAtMost;
+import static com.example.trainingprojectrestapi.QueryBudget.statementsAtMost;
 import static com.example.trainingprojectrestapi.util.ConstantsUtil.REPORT_FILE_NAME;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "diagnostics.queries.enabled=true")
 @AutoConfigureMockMvc
 @Transactional
 public class OrderControllerIntegrationTest {
@@ -138,6 +143,8 @@ public class OrderControllerIntegrationTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(criteriaMap)))
                 .andExpect(status().isOk())
+                .andExpect(statementsAtMost(2))
+                .andExpect(entitiesLoadedAtMost(0))
                 .andExpect(jsonPath("$.totalItems", is(1)))
                 .andExpect(jsonPath("$.page", is(1)))
                 .andExpect(jsonPath("$.totalPages", is(1)))
@@ -148,6 +155,320 @@ public class OrderControllerIntegrationTest {
                 .andExpect(jsonPath("$.items[0].totalPrice", is(123.50)));
     }
 
+    @Test
+    @DisplayName("givenFindByCriteriaOrder_whenRangeAndMultiValueFilters_thenGetFilteringResult")
+    public void testFindByCriteriaOrder_rangeFilters_ok() throws Exception {
+        Map<String, Object> criteriaMap = Map.of(
+                "customerIds", List.of(order.getCustomer().getId()),
+                "orderDateFrom", "2024-01-01",
+                "orderDateTo", "2024-01-31",
+                "totalPriceMin", 100,
+                "totalPriceMax", 150.5,
+                "statusPayment", true);
+
+        mockMvc.perform(post("/api/orders/_list")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(criteriaMap)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalItems", is(1)))
+                .andExpect(jsonPath("$.items[0].orderDate", is("2024-01-10")))
+                .andExpect(jsonPath("$.items[0].totalPrice", is(123.50)));
+
+        mockMvc.perform(post("/api/orders/_list")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "customerIds", List.of(order.getCustomer().getId()),
+                                "statusPayment", false))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalItems", is(0)));
+    }
+
+    @Test
+    @DisplayName("givenFindByCriteriaOrder_whenDescriptionSearch_thenGetMatchingOrdersByRank")
+    public void testFindByCriteriaOrder_descriptionSearch_ok() throws Exception {
+        Customer customer = order.getCustomer();
+        orderRepository.save(Order.builder()
+                .orderDate(LocalDate.of(2024, 1, 11))
+                .customer(customer)
+                .statusPayment(false)
+                .description("Telescope, Lamp")
+                .totalPrice(BigDecimal.valueOf(310.00))
+                .build());
+        orderRepository.save(Order.builder()
+                .orderDate(LocalDate.of(2024, 1, 12))
+                .customer(customer)
+                .statusPayment(false)
+                .description("Telescope, Telescope tripod, Telescope case")
+                .totalPrice(BigDecimal.valueOf(480.00))
+                .build());
+        Map<String, Object> criteriaMap = Map.of(
+                "customerId", customer.getId(),
+                "descriptionSearch", "telescopes");
+
+        mockMvc.perform(post("/api/orders/_list")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(criteriaMap)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalItems", is(2)))
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].description", is("Telescope, Telescope tripod, Telescope case")))
+                .andExpect(jsonPath("$.items[1].description", is("Telescope, Lamp")));
+    }
+
+    @Test
+    @DisplayName("givenFindByCriteriaOrder_whenMalformedCriterion_thenBadRequest")
+    public void testFindByCriteriaOrder_malformedCriterion_badRequest() throws Exception {
+        mockMvc.perform(post("/api/orders/_list")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("orderDate", "not a date"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid value of criterion orderDate: not a date")));
+
+        mockMvc.perform(post("/api/orders/_list")
+                        .param("count", "false")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("totalPriceMin", "cheap"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid value of criterion totalPriceMin: cheap")));
+
+        mockMvc.perform(post("/api/orders/_list")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("statusPayment", "ture"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid value of criterion statusPayment: ture")));
+
+        mockMvc.perform(post("/api/orders/_list")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("statusPayment", 1))))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/orders/_list")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "customerId", order.getCustomer().getId(),
+                                "statusPayment", "TRUE"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalItems", is(1)));
+    }
+
+    @Test
+    @DisplayName("givenFindByCriteriaOrder_whenCountDisabled_thenGetPageWithoutTotals")
+    public void testFindByCriteriaOrder_withoutCount_ok() throws Exception {
+        Map<String, Object> criteriaMap = Map.of("customerId", order.getCustomer().getId());
+
+        mockMvc.perform(post("/api/orders/_list")
+                        .param("count", "false")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(criteriaMap)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalItems").doesNotExist())
+                .andExpect(jsonPath("$.totalPages").doesNotExist())
+                .andExpect(jsonPath("$.hasNext", is(false)))
+                .andExpect(jsonPath("$.items[0].description", is("Gloves, Lamp, Soap, T-shirt")));
+    }
+
+    @Test
+    @DisplayName("givenGetOrder_whenETagMatches_thenNotModifiedUntilOrderIsUpdated")
+    public void testGetOrder_conditionalRequest_ok() throws Exception {
+        String etag = mockMvc.perform(get("/api/orders/{id}", order.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/orders/{id}", order.getId())
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(put("/api/orders/{id}", order.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderRequestDto)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/orders/{id}", order.getId())
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description", is("Laptop, Backpack, Coat, Towels")));
+    }
+
+    @Test
+    @DisplayName("givenAggregateByCriteriaOrder_whenGroupedByMonth_thenGetTotalsPerMonth")
+    public void testAggregateByCriteriaOrder_ok() throws Exception {
+        Customer customer = order.getCustomer();
+        orderRepository.save(Order.builder()
+                .orderDate(LocalDate.of(2024, 1, 25))
+                .customer(customer)
+                .statusPayment(false)
+                .description("Jeans, Umbrella, Sneakers")
+                .totalPrice(BigDecimal.valueOf(76.50))
+                .build());
+        mockMvc.perform(post("/api/orders/_rollup/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rebuiltBuckets", is(2)));
+        Map<String, Object> criteriaMap = Map.of("customerId", customer.getId());
+
+        mockMvc.perform(post("/api/orders/_aggregate")
+                        .param("groupBy", "month")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(criteriaMap)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupBy", is("month")))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].key", is("2024-01-01")))
+                .andExpect(jsonPath("$.items[0].orderCount", is(2)))
+                .andExpect(jsonPath("$.items[0].totalPriceSum", is(200.00)))
+                .andExpect(jsonPath("$.items[0].totalPriceAvg", is(100.00)));
+
+        mockMvc.perform(post("/api/orders/_aggregate")
+                        .param("groupBy", "hour")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(criteriaMap)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("givenOrderChanges_whenAggregateByCriteriaOrder_thenRollupIsMaintained")
+    public void testAggregateByCriteriaOrder_rollupMaintained_ok() throws Exception {
+        Map<String, Object> criteriaMap = Map.of(
+                "customerId", orderRequestDto.getCustomerId(),
+                "statusPayment", false);
+
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderRequestDto)))
+                .andExpect(status().isCreated());
+        Long orderId = orderRepository.findAll().stream()
+                .filter(savedOrder -> savedOrder.getOrderDate().equals(orderRequestDto.getOrderDate()))
+                .findFirst().orElseThrow().getId();
+
+        mockMvc.perform(post("/api/orders/_aggregate")
+                        .param("groupBy", "day")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(criteriaMap)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].key", is("2024-02-20")))
+                .andExpect(jsonPath("$.items[0].orderCount", is(1)))
+                .andExpect(jsonPath("$.items[0].totalPriceSum", is(200.50)));
+
+        mockMvc.perform(delete("/api/orders/{id}", orderId))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/orders/_aggregate")
+                        .param("groupBy", "day")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(criteriaMap)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("givenBulkUpdateAndDelete_whenOrdersSelected_thenAffectedCountsAndRollupReconciled")
+    public void testBulkUpdateAndDeleteOrders_ok() throws Exception {
+        Long customerId = order.getCustomer().getId();
+        Map<String, Object> unpaidCriteria = Map.of("customerId", customerId, "statusPayment", false);
+
+        mockMvc.perform(post("/api/orders/_bulk/update")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "criteria", Map.of("customerId", customerId),
+                                "statusPayment", false))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affectedOrders", is(1)))
+                .andExpect(jsonPath("$.rebuiltBuckets", is(1)));
+
+        mockMvc.perform(post("/api/orders/_aggregate")
+                        .param("groupBy", "day")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(unpaidCriteria)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].key", is("2024-01-10")))
+                .andExpect(jsonPath("$.items[0].orderCount", is(1)));
+
+        mockMvc.perform(post("/api/orders/_bulk/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("ids", List.of(order.getId())))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affectedOrders", is(1)));
+
+        mockMvc.perform(post("/api/orders/_aggregate")
+                        .param("groupBy", "day")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(unpaidCriteria)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(0)));
+
+        mockMvc.perform(post("/api/orders/_bulk/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("criteria", Map.of()))))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/orders/_bulk/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "criteria", Map.of("customerIds", List.of())))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid value of criterion customerIds: []")));
+
+        mockMvc.perform(post("/api/orders/_bulk/delete")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "criteria", Map.of("statusPayment", "ture")))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid value of criterion statusPayment: ture")));
+    }
+
+    @Test
+    @DisplayName("givenScrollByCriteriaOrder_whenValidInput_thenGetSliceWithCursor")
+    public void testScrollByCriteriaOrder_ok() throws Exception {
+        Customer customer = order.getCustomer();
+        orderRepository.save(Order.builder()
+                .orderDate(LocalDate.of(2024,1,11))
+                .customer(customer)
+                .statusPayment(false)
+                .description("Jeans, Umbrella, Sneakers")
+                .totalPrice(BigDecimal.valueOf(210.00))
+                .build());
+        Map<String, Object> criteriaMap = Map.of("customerId", customer.getId());
+
+        String firstSlice = mockMvc.perform(post("/api/orders/_scroll")
+                        .param("size", "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(criteriaMap)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pageSize", is(1)))
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].description", is("Gloves, Lamp, Soap, T-shirt")))
+                .andExpect(jsonPath("$.nextCursor").isString())
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(firstSlice).get("nextCursor").asText();
+
+        mockMvc.perform(post("/api/orders/_scroll")
+                        .param("size", "1")
+                        .param("cursor", nextCursor)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(criteriaMap)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].description", is("Jeans, Umbrella, Sneakers")))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(post("/api/orders/_scroll")
+                        .param("size", "0")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(criteriaMap)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid size: 0")));
+
+        mockMvc.perform(post("/api/orders/_scroll")
+                        .param("size", "-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(criteriaMap)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Invalid size: -1")));
+    }
+
     @Test
     @DisplayName("givenUploadOrders_whenCorrectFile_thenGetResultsWithStatistics")
     public void testUploadOrders_ok() throws Exception {
@@ -159,6 +480,7 @@ public class OrderControllerIntegrationTest {
         mockMvc.perform(multipart("/api/orders/upload")
                         .file(file))
                 .andExpect(status().isOk())
+                .andExpect(statementsAtMost(3))
                 .andExpect(jsonPath("$.successfulImports", is(18)))
                 .andExpect(jsonPath("$.failedImports", is(2)))
                 .andExpect(jsonPath("$.invalidInputData[0].errorMessage", is("Order date must be in the past or present")))
@@ -169,6 +491,20 @@ public class OrderControllerIntegrationTest {
                 .andExpect(jsonPath("$.invalidInputData[1].fieldValue", is(-135.50)));
     }
 
+    @Test
+    @DisplayName("givenUploadOrders_whenTruncatedFile_thenGetErrorWithPersistedCounts")
+    public void testUploadOrders_truncatedFile_badRequest() throws Exception {
+        ClassPathResource resource = new ClassPathResource("test_orders.json");
+        String content = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8).strip();
+        MockMultipartFile file = new MockMultipartFile("file", "test_orders.json", "application/json",
+                content.substring(0, content.length() - 1).getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(multipart("/api/orders/upload")
+                        .file(file))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Unexpected end of JSON array of orders")));
+    }
+
     @Test
     @DisplayName("givenGetReportFile_whenCorrectCriteria_thenGetFileReportWIthResults")
     public void testGetReportFile_ok() throws Exception {
@@ -0,0 +1,68 @@
+package com.example.trainingprojectrestapi;
+
+import com.example.trainingprojectrestapi.entity.Order;
+import com.example.trainingprojectrestapi.repository.OrderRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StreamUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests of the order upload split into small chunks, persisted one at a time,
+ * so that an upload failing part way through has already persisted some of its chunks.
+ */
+@SpringBootTest(properties = {"orders.import.chunk-size=5", "orders.import.max-pending-chunks=1"})
+@AutoConfigureMockMvc
+@Transactional
+public class OrderImportIntegrationTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    @DisplayName("givenUploadOrders_whenFileTruncatedAfterSomeChunks_thenGetErrorWithPersistedCounts")
+    public void testUploadOrders_truncatedAfterPersistedChunks_badRequest() throws Exception {
+        ClassPathResource resource = new ClassPathResource("test_orders.json");
+        String content = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8).strip();
+        MockMultipartFile file = new MockMultipartFile("file", "test_orders.json", "application/json",
+                content.substring(0, content.length() - 1).getBytes(StandardCharsets.UTF_8));
+        Set<Long> existingOrderIds = orderRepository.findAll().stream()
+                .map(Order::getId)
+                .collect(Collectors.toSet());
+
+        // The first three chunks of five orders are persisted before the missing end of the array is parsed,
+        // the fourth one is still pending
+        mockMvc.perform(multipart("/api/orders/upload")
+                        .file(file))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Unexpected end of JSON array of orders. "
+                        + "Orders persisted before the error: 13 imported, 2 rejected")));
+
+        List<Order> importedOrders = orderRepository.findAll().stream()
+                .filter(order -> !existingOrderIds.contains(order.getId()))
+                .toList();
+        assertThat(importedOrders).hasSize(13);
+        assertThat(importedOrders).extracting(Order::getOrderDate)
+                .allMatch(orderDate -> !orderDate.isBefore(LocalDate.of(2024, 4, 10))
+                        && !orderDate.isAfter(LocalDate.of(2024, 4, 16)));
+    }
+}
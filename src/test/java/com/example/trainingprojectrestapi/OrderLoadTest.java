@@ -0,0 +1,303 @@
+package com.example.trainingprojectrestapi;
+
+import com.example.trainingprojectrestapi.repository.OrderRollupRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test. Boots the application against a PostgreSQL container seeded with millions of orders,
+ * drives a weighted mix of order writes, searches, aggregations, report exports and bulk uploads from
+ * concurrent clients, and writes the throughput and latency percentiles of every endpoint to
+ * {@code target/load-test-result-<platform|virtual>.json}, so results can be diffed between builds and between
+ * the platform and virtual thread request execution modes ({@code spring.threads.virtual.enabled}).
+ * Tagged {@code load} and excluded from the default build; run it with {@code mvn -Pload-test test}.
+ * The size of the run is configured with the {@code loadtest.*} system properties.
+ * Skipped when Docker is not available.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class OrderLoadTest {
+    private static final int CUSTOMERS = Integer.getInteger("loadtest.customers", 10_000);
+    private static final int ORDERS = Integer.getInteger("loadtest.orders", 2_000_000);
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 16);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 15);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 60);
+    private static final int UPLOAD_ORDERS = 200;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private OrderRollupRepository orderRollupRepository;
+    @Autowired
+    private Environment environment;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private long minCustomerId;
+    private long minOrderId;
+    private AtomicLong nextDeletedOrderId;
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeAll
+    void seedOrders() {
+        jdbcTemplate.update("INSERT INTO customers (email, first_name, last_name, phone_number) "
+                + "SELECT 'load' || i || '@test.test', 'First' || i, 'Last' || i, '380' || lpad(i::text, 9, '0') "
+                + "FROM generate_series(1, ?) AS i", CUSTOMERS);
+        jdbcTemplate.update("INSERT INTO orders (customer_id, order_date, status_payment, description, total_price) "
+                + "SELECT c.ids[1 + i % array_length(c.ids, 1)], DATE '2021-01-01' + (i % 1000), i % 2 = 0, "
+                + "'Gloves, Lamp, Soap, T-shirt ' || i, round((random() * 10000)::numeric, 2) + 0.01 "
+                + "FROM generate_series(1, ?) AS i, (SELECT array_agg(id) AS ids FROM customers) AS c", ORDERS);
+        orderRollupRepository.rebuild(null, null);
+        jdbcTemplate.execute("ANALYZE");
+
+        minCustomerId = jdbcTemplate.queryForObject("SELECT min(id) FROM customers", Long.class);
+        minOrderId = jdbcTemplate.queryForObject("SELECT min(id) FROM orders", Long.class);
+        nextDeletedOrderId = new AtomicLong(jdbcTemplate.queryForObject("SELECT max(id) FROM orders", Long.class));
+    }
+
+    @Test
+    @DisplayName("givenSeededDatabase_whenMixedWorkload_thenWriteLatencyPercentiles")
+    public void testMixedWorkload() throws Exception {
+        runWorkload(WARMUP_SECONDS, new LatencyRecorder());
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        long startTime = System.nanoTime();
+        runWorkload(DURATION_SECONDS, recorder);
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1e9;
+
+        String threads = Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform";
+        Path resultFile = Path.of("target", "load-test-result-" + threads + ".json");
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("threads", threads);
+        result.put("customers", CUSTOMERS);
+        result.put("orders", ORDERS);
+        result.put("clients", CLIENTS);
+        result.put("durationSeconds", DURATION_SECONDS);
+        result.put("endpoints", recorder.summarize(elapsedSeconds));
+        Files.createDirectories(resultFile.getParent());
+        objectMapper.writeValue(resultFile.toFile(), result);
+
+        assertThat(recorder.errors()).as("failed requests per endpoint").allSatisfy((endpoint, errors) ->
+                assertThat(errors).as(endpoint).isZero());
+    }
+
+    private void runWorkload(int seconds, LatencyRecorder recorder) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+        for (int i = 0; i < CLIENTS; i++) {
+            clients.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    Operation operation = Operation.pick();
+                    HttpRequest request = buildRequest(operation);
+                    long requestStart = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        recorder.record(operation, System.nanoTime() - requestStart, response.statusCode() < 300);
+                    } catch (IOException ex) {
+                        recorder.record(operation, System.nanoTime() - requestStart, false);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            });
+        }
+        clients.shutdown();
+        assertThat(clients.awaitTermination(seconds + 60L, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private HttpRequest buildRequest(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long customerId = minCustomerId + random.nextInt(CUSTOMERS);
+        // updates and reads stay in the lower half of the ids, deletes walk down from the highest id
+        long orderId = minOrderId + random.nextInt(ORDERS / 2);
+
+        return switch (operation) {
+            case CREATE -> json("/api/orders", "POST", orderJson(customerId));
+            case GET -> HttpRequest.newBuilder(uri("/api/orders/" + orderId)).GET().build();
+            case UPDATE -> json("/api/orders/" + orderId, "PUT", orderJson(customerId));
+            case DELETE -> HttpRequest.newBuilder(uri("/api/orders/" + nextDeletedOrderId.getAndDecrement()))
+                    .DELETE().build();
+            case SEARCH -> json("/api/orders/_list?page=" + (1 + random.nextInt(5)), "POST",
+                    "{\"customerId\": " + customerId + ", \"orderDateFrom\": \"2021-06-01\"}");
+            case SCROLL -> json("/api/orders/_scroll?size=50", "POST",
+                    "{\"totalPriceMin\": " + random.nextInt(9000) + ", \"statusPayment\": true}");
+            case AGGREGATE -> json("/api/orders/_aggregate?groupBy=month", "POST",
+                    "{\"customerId\": " + customerId + "}");
+            case REPORT -> json("/api/orders/_report", "POST", "{\"customerId\": " + customerId + "}");
+            case UPLOAD -> upload(customerId);
+        };
+    }
+
+    private HttpRequest json(String path, String method, String body) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest upload(long customerId) {
+        String boundary = "load-test-boundary";
+        String orders = IntStream.range(0, UPLOAD_ORDERS)
+                .mapToObj(i -> orderJson(customerId))
+                .collect(Collectors.joining(",", "[", "]"));
+        String body = "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"orders.json\"\r\n"
+                + "Content-Type: application/json\r\n\r\n"
+                + orders + "\r\n--" + boundary + "--\r\n";
+
+        return HttpRequest.newBuilder(uri("/api/orders/upload"))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private String orderJson(long customerId) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return "{\"customerId\": " + customerId
+                + ", \"orderDate\": \"" + LocalDate.of(2023, 1, 1).plusDays(random.nextInt(365)) + "\""
+                + ", \"statusPayment\": " + random.nextBoolean()
+                + ", \"description\": \"Laptop, Backpack, Coat, Towels\""
+                + ", \"totalPrice\": " + (1 + random.nextInt(100_000)) / 100.0 + "}";
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    /**
+     * The operations of the workload with their relative weights.
+     */
+    private enum Operation {
+        CREATE(15),
+        GET(20),
+        UPDATE(10),
+        DELETE(5),
+        SEARCH(25),
+        SCROLL(10),
+        AGGREGATE(10),
+        REPORT(4),
+        UPLOAD(1);
+
+        private static final int TOTAL_WEIGHT = Arrays.stream(values()).mapToInt(operation -> operation.weight).sum();
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        private static Operation pick() {
+            int ticket = ThreadLocalRandom.current().nextInt(TOTAL_WEIGHT);
+            for (Operation operation : values()) {
+                ticket -= operation.weight;
+                if (ticket < 0) {
+                    return operation;
+                }
+            }
+            throw new IllegalStateException("Unreachable");
+        }
+    }
+
+    /**
+     * Collects the latency of every request and the number of failed requests per operation.
+     */
+    private static class LatencyRecorder {
+        private final Map<Operation, List<Long>> latencies = new LinkedHashMap<>();
+        private final Map<Operation, Long> failures = new LinkedHashMap<>();
+
+        private synchronized void record(Operation operation, long latencyNanos, boolean success) {
+            latencies.computeIfAbsent(operation, key -> new ArrayList<>()).add(latencyNanos);
+            if (!success) {
+                failures.merge(operation, 1L, Long::sum);
+            }
+        }
+
+        private synchronized Map<String, Long> errors() {
+            Map<String, Long> errors = new LinkedHashMap<>();
+            failures.forEach((operation, count) -> errors.put(operation.name(), count));
+            return errors;
+        }
+
+        private synchronized Map<String, Map<String, Object>> summarize(double elapsedSeconds) {
+            Map<String, Map<String, Object>> summary = new LinkedHashMap<>();
+            latencies.forEach((operation, samples) -> {
+                long[] sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+                Map<String, Object> endpoint = new LinkedHashMap<>();
+                endpoint.put("requests", sorted.length);
+                endpoint.put("errors", failures.getOrDefault(operation, 0L));
+                endpoint.put("throughputPerSecond", round(sorted.length / elapsedSeconds));
+                endpoint.put("p50Millis", percentile(sorted, 0.50));
+                endpoint.put("p99Millis", percentile(sorted, 0.99));
+                endpoint.put("p999Millis", percentile(sorted, 0.999));
+                endpoint.put("maxMillis", toMillis(sorted[sorted.length - 1]));
+                summary.put(operation.name(), endpoint);
+            });
+            return summary;
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return toMillis(sorted[Math.max(0, rank - 1)]);
+        }
+
+        private static double toMillis(long nanos) {
+            return round(nanos / 1e6);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
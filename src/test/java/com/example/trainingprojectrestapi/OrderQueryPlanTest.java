@@ -0,0 +1,289 @@
+package com.example.trainingprojectrestapi;
+
+import com.example.trainingprojectrestapi.model.OrderCriteria;
+import com.example.trainingprojectrestapi.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.lang.NonNull;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN for the SQL Hibernate generates for every supported order criteria shape against a seeded
+ * PostgreSQL instance, with the values Hibernate binds, and fails if the page or count query of a shape
+ * does not scan the orders table through one of the indexes expected for it.
+ * Skipped when Docker is not available.
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class OrderQueryPlanTest {
+    private static final int CUSTOMERS = 1_000;
+    private static final int ORDERS = 200_000;
+    private static final int PAGE_SIZE = 10;
+    private static final Pattern INDEX_SCAN = Pattern.compile(
+            "(?:Index Scan|Index Only Scan|Bitmap Index Scan) (?:using|on) (\\w+)");
+    private static final String CUSTOMER_INDEX = "idx_orders_customer_id_order_date";
+    private static final String ORDER_DATE_INDEX = "idx_orders_order_date";
+    private static final String TOTAL_PRICE_INDEX = "idx_orders_total_price";
+    private static final String DESCRIPTION_TRGM_INDEX = "idx_orders_description_trgm";
+    private static final String DESCRIPTION_FTS_INDEX = "idx_orders_description_fts";
+    private static final ThreadLocal<List<CapturedStatement>> CAPTURED = new ThreadLocal<>();
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeAll
+    void seedOrders() {
+        jdbcTemplate.update("INSERT INTO customers (email, first_name, last_name, phone_number) "
+                + "SELECT 'plan' || i || '@test.test', 'First' || i, 'Last' || i, '380' || lpad(i::text, 9, '0') "
+                + "FROM generate_series(1, ?) AS i", CUSTOMERS);
+        jdbcTemplate.update("INSERT INTO orders (customer_id, order_date, status_payment, description, total_price) "
+                + "SELECT c.ids[1 + i % array_length(c.ids, 1)], DATE '2021-01-01' + (i % 1000), i % 2 = 0, "
+                + "CASE WHEN i % 1000 = 0 THEN 'Telescope, Tripod' ELSE 'Gloves, Lamp, Soap, T-shirt ' || i END, "
+                + "round((random() * 10000)::numeric, 2) + 0.01 "
+                + "FROM generate_series(1, ?) AS i, (SELECT array_agg(id) AS ids FROM customers) AS c", ORDERS);
+        jdbcTemplate.execute("ANALYZE customers");
+        jdbcTemplate.execute("ANALYZE orders");
+    }
+
+    Stream<Arguments> criteriaShapes() {
+        Long customerId = jdbcTemplate.queryForObject("SELECT max(id) FROM customers", Long.class);
+        Map<String, Object> byCustomer = Map.of("customerId", customerId);
+        Map<String, Object> byOrderDate = Map.of("orderDate", "2022-06-15");
+        Map<String, Object> byTotalPrice = Map.of("totalPrice", "4321.09");
+        Map<String, Object> byDescription = Map.of("description", "Telescope");
+        Map<String, Object> byCustomers = Map.of("customerIds", List.of(customerId, customerId - 1, customerId - 2));
+        Map<String, Object> byOrderDateRange = Map.of("orderDateFrom", "2022-06-15", "orderDateTo", "2022-06-17");
+
+        return Stream.of(
+                Arguments.of("customerId", byCustomer, Set.of(CUSTOMER_INDEX)),
+                Arguments.of("orderDate", byOrderDate, Set.of(ORDER_DATE_INDEX)),
+                Arguments.of("totalPrice", byTotalPrice, Set.of(TOTAL_PRICE_INDEX)),
+                Arguments.of("description", byDescription, Set.of(DESCRIPTION_TRGM_INDEX)),
+                Arguments.of("descriptionSearch", Map.of("descriptionSearch", "telescope"),
+                        Set.of(DESCRIPTION_FTS_INDEX)),
+                Arguments.of("customerId + orderDate", merge(byCustomer, byOrderDate), Set.of(CUSTOMER_INDEX)),
+                Arguments.of("customerId + totalPrice", merge(byCustomer, byTotalPrice),
+                        Set.of(CUSTOMER_INDEX, TOTAL_PRICE_INDEX)),
+                Arguments.of("orderDate + totalPrice", merge(byOrderDate, byTotalPrice),
+                        Set.of(ORDER_DATE_INDEX, TOTAL_PRICE_INDEX)),
+                Arguments.of("customerId + description", merge(byCustomer, byDescription),
+                        Set.of(CUSTOMER_INDEX, DESCRIPTION_TRGM_INDEX)),
+                Arguments.of("customerIds", byCustomers, Set.of(CUSTOMER_INDEX)),
+                Arguments.of("orderDateFrom + orderDateTo", byOrderDateRange, Set.of(ORDER_DATE_INDEX)),
+                Arguments.of("totalPriceMin + totalPriceMax",
+                        Map.of("totalPriceMin", "4321.00", "totalPriceMax", "4323.00"), Set.of(TOTAL_PRICE_INDEX)),
+                Arguments.of("customerIds + orderDate range", merge(byCustomers, byOrderDateRange),
+                        Set.of(CUSTOMER_INDEX, ORDER_DATE_INDEX)),
+                Arguments.of("customerId + statusPayment", merge(byCustomer, Map.of("statusPayment", true)),
+                        Set.of(CUSTOMER_INDEX))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("criteriaShapes")
+    @DisplayName("givenCriteriaShape_whenGeneratedQueriesExplained_thenOrdersScannedThroughExpectedIndex")
+    public void testCriteriaQueryPlan_usesIndex(String shape, Map<String, Object> criteriaMap,
+                                                Set<String> expectedIndexes) {
+        OrderCriteria criteria = OrderCriteria.from(criteriaMap);
+        CapturedStatement page = capture(() -> orderRepository.findAllAsDto(criteria, PageRequest.of(0, PAGE_SIZE)))
+                .get(0);
+        // A page past the last order is always empty, so its total is counted with the count query
+        List<CapturedStatement> pastLastPage = capture(() -> orderRepository.findAllAsDto(criteria,
+                PageRequest.of(ORDERS / PAGE_SIZE, PAGE_SIZE)));
+        CapturedStatement count = pastLastPage.get(pastLastPage.size() - 1);
+
+        assertThat(page.sql()).contains(" order by ");
+        assertThat(count.sql()).contains("count(");
+        assertThat(usedIndexes(page)).as("indexes of page query %s", page.sql())
+                .containsAnyElementsOf(expectedIndexes);
+        assertThat(usedIndexes(count)).as("indexes of count query %s", count.sql())
+                .containsAnyElementsOf(expectedIndexes);
+    }
+
+    /**
+     * Explains a captured statement with its captured parameter values.
+     *
+     * @param statement The statement executed by Hibernate.
+     * @return The names of the indexes the plan scans.
+     */
+    private Set<String> usedIndexes(CapturedStatement statement) {
+        String plan = String.join("\n", jdbcTemplate.query("EXPLAIN " + statement.sql(),
+                statement::bind, (rs, rowNum) -> rs.getString(1)));
+        assertThat(plan).doesNotContain("Seq Scan on orders");
+
+        Matcher matcher = INDEX_SCAN.matcher(plan);
+        return matcher.results()
+                .map(result -> result.group(1))
+                .collect(Collectors.toSet());
+    }
+
+    private List<CapturedStatement> capture(Runnable queries) {
+        List<CapturedStatement> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            queries.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        assertThat(statements).isNotEmpty();
+        return statements;
+    }
+
+    private static Map<String, Object> merge(Map<String, Object> first, Map<String, Object> second) {
+        return Stream.concat(first.entrySet().stream(), second.entrySet().stream())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * A statement executed while capturing, with the parameter setter calls made on it.
+     *
+     * @param sql      The SQL of the statement.
+     * @param bindings The parameter setter calls, in call order.
+     */
+    private record CapturedStatement(String sql, List<Binding> bindings) {
+
+        private void bind(PreparedStatement ps) throws SQLException {
+            for (Binding binding : bindings) {
+                try {
+                    binding.method().invoke(ps, binding.args());
+                } catch (ReflectiveOperationException ex) {
+                    throw new SQLException("Failed to bind " + binding.method().getName(), ex);
+                }
+            }
+        }
+    }
+
+    private record Binding(Method method, Object[] args) {
+    }
+
+    /**
+     * Wraps the data source to capture the prepared statements executed on threads that are capturing.
+     */
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor statementCapturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                    return bean instanceof DataSource dataSource ? new CapturingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    private static class CapturingDataSource extends DelegatingDataSource {
+
+        private CapturingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        @NonNull
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        Object identityResult = invokeIdentity(proxy, method, args);
+                        if (identityResult != null) {
+                            return identityResult;
+                        }
+                        Object result = invoke(connection, method, args);
+                        if (result instanceof PreparedStatement ps && method.getName().equals("prepareStatement")
+                                && CAPTURED.get() != null) {
+                            return capturing(ps, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement capturing(PreparedStatement ps, String sql) {
+            List<Binding> bindings = new ArrayList<>();
+            return (PreparedStatement) Proxy.newProxyInstance(CapturingDataSource.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        Object identityResult = invokeIdentity(proxy, method, args);
+                        if (identityResult != null) {
+                            return identityResult;
+                        }
+                        if (method.getName().startsWith("set") && method.getParameterCount() >= 2
+                                && method.getParameterTypes()[0] == int.class) {
+                            bindings.add(new Binding(method, args));
+                        } else if (method.getName().startsWith("execute") && CAPTURED.get() != null) {
+                            CAPTURED.get().add(new CapturedStatement(sql, List.copyOf(bindings)));
+                        }
+                        return invoke(ps, method, args);
+                    });
+        }
+
+        /**
+         * Compares proxies by identity, since Hibernate tracks its JDBC resources in hash maps.
+         *
+         * @return The result of {@code equals} or {@code hashCode}, or {@code null} for other methods.
+         */
+        private static Object invokeIdentity(Object proxy, Method method, Object[] args) {
+            if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+                return proxy == args[0];
+            }
+            if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+                return System.identityHashCode(proxy);
+            }
+            return null;
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.trainingprojectrestapi;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.QUERY_ENTITIES_LOADED_HEADER;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.QUERY_FLUSHES_HEADER;
+import static com.example.trainingprojectrestapi.util.ConstantsUtil.QUERY_STATEMENTS_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MockMvc result matchers failing a request whose database activity exceeds its query budget, so that
+ * query amplification such as N+1 selects is caught by the integration tests. They read the query
+ * diagnostics headers, so the tests using them must run with {@code diagnostics.queries.enabled=true}.
+ */
+public class QueryBudget {
+
+    public static ResultMatcher statementsAtMost(long budget) {
+        return atMost(QUERY_STATEMENTS_HEADER, budget);
+    }
+
+    public static ResultMatcher entitiesLoadedAtMost(long budget) {
+        return atMost(QUERY_ENTITIES_LOADED_HEADER, budget);
+    }
+
+    public static ResultMatcher flushesAtMost(long budget) {
+        return atMost(QUERY_FLUSHES_HEADER, budget);
+    }
+
+    private static ResultMatcher atMost(String header, long budget) {
+        return result -> {
+            String value = result.getResponse().getHeader(header);
+            assertThat(value)
+                    .as("%s header, is diagnostics.queries.enabled set?", header)
+                    .isNotNull();
+            assertThat(Long.parseLong(value))
+                    .as("%s of %s %s", header, result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                    .isLessThanOrEqualTo(budget);
+        };
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.trainingprojectrestapi;
+
+import com.example.trainingprojectrestapi.config.ReactiveOrderServer;
+import com.example.trainingprojectrestapi.entity.Customer;
+import com.example.trainingprojectrestapi.entity.Order;
+import com.example.trainingprojectrestapi.repository.CustomerRepository;
+import com.example.trainingprojectrestapi.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests of the reactive order endpoints. The reactive stack reads through its own R2DBC
+ * connections, so the test data is committed and removed after every test instead of being rolled back.
+ */
+@SpringBootTest(properties = {"orders.reactive.enabled=true", "orders.reactive.port=0"})
+public class ReactiveOrderIntegrationTest {
+    @Autowired
+    private ReactiveOrderServer reactiveOrderServer;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private CustomerRepository customerRepository;
+    private WebTestClient webTestClient;
+    private Customer customer;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + reactiveOrderServer.getPort())
+                .build();
+
+        customer = customerRepository.save(Customer.builder()
+                .firstName("Alice")
+                .lastName("Smith")
+                .phoneNumber("380777777777")
+                .email("test_alice@test.test")
+                .build());
+
+        order = orderRepository.save(Order.builder()
+                .orderDate(LocalDate.of(2024, 1, 10))
+                .customer(customer)
+                .statusPayment(true)
+                .description("Gloves, Lamp, Soap, T-shirt")
+                .totalPrice(BigDecimal.valueOf(123.50))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.delete(order);
+        customerRepository.delete(customer);
+    }
+
+    @Test
+    @DisplayName("givenGetOrder_whenReactiveEndpoint_thenGetOrderWithCustomer")
+    public void testGetOrder_ok() {
+        webTestClient.get().uri("/api/orders/{id}", order.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(order.getId().intValue())
+                .jsonPath("$.statusPayment").isEqualTo(true)
+                .jsonPath("$.orderDate").isEqualTo("2024-01-10")
+                .jsonPath("$.totalPrice").isEqualTo(123.50)
+                .jsonPath("$.customerResponseDto.email").isEqualTo("test_alice@test.test");
+
+        webTestClient.get().uri("/api/orders/{id}", Long.MAX_VALUE)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Couldn't find order by id: " + Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("givenFindByCriteriaOrder_whenReactiveEndpoint_thenGetFilteringResult")
+    public void testFindByCriteriaOrder_ok() {
+        webTestClient.post().uri("/api/orders/_list")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("customerId", customer.getId(), "orderDateFrom", "2024-01-01"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalItems").isEqualTo(1)
+                .jsonPath("$.totalPages").isEqualTo(1)
+                .jsonPath("$.hasNext").isEqualTo(false)
+                .jsonPath("$.items[0].customerId").isEqualTo(customer.getId().intValue())
+                .jsonPath("$.items[0].description").isEqualTo("Gloves, Lamp, Soap, T-shirt");
+
+        webTestClient.post().uri("/api/orders/_list")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("orderDate", "not a date"))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        webTestClient.post().uri("/api/orders/_list?size=abc")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("customerId", customer.getId()))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid size: abc");
+
+        webTestClient.post().uri("/api/orders/_list?size=40000")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("customerId", customer.getId()))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid size: 40000");
+
+        webTestClient.post().uri("/api/orders/_list?page=abc")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("customerId", customer.getId()))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid page: abc");
+
+        webTestClient.post().uri("/api/orders/_list")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("customerIds", new Long[0]))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid value of criterion customerIds: []");
+    }
+
+    @Test
+    @DisplayName("givenStreamByCriteriaOrder_whenReactiveEndpoint_thenGetNewlineDelimitedOrders")
+    public void testStreamByCriteriaOrder_ok() {
+        String body = webTestClient.post().uri("/api/orders/_stream")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(Map.of("customerIds", new Long[]{customer.getId()}))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(body).isNotNull();
+        assertThat(body.lines()).hasSize(1);
+        assertThat(body).contains("\"description\":\"Gloves, Lamp, Soap, T-shirt\"");
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.trainingprojectrestapi.benchmark;
+
+import com.example.trainingprojectrestapi.dto.request.OrderRequestDto;
+import com.example.trainingprojectrestapi.dto.response.OrderResponseDto;
+import com.example.trainingprojectrestapi.util.FileOperationUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the JSON import parsing and the CSV report export of {@link FileOperationUtil}.
+ * The JSON files are generated once per trial, and the exported rows are generated lazily,
+ * so the heap holds neither a million-row file nor a million-row result.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileOperationBenchmark {
+    private static final int CHUNK_SIZE = 500;
+
+    @State(Scope.Benchmark)
+    public static class JsonFile {
+        @Param({"1000", "10000", "100000"})
+        public int orders;
+        public byte[] content;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            ObjectMapper objectMapper = new ObjectMapper()
+                    .registerModule(new JavaTimeModule())
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+            List<OrderRequestDto> fileOrders = IntStream.range(0, orders)
+                    .mapToObj(i -> OrderRequestDto.builder()
+                            .customerId((long) i % 100 + 1)
+                            .orderDate(LocalDate.of(2024, 1, 1).plusDays(i % 365))
+                            .statusPayment(i % 2 == 0)
+                            .description("Gloves, Lamp, Soap, T-shirt " + i)
+                            .totalPrice(BigDecimal.valueOf(i % 1000 + 1, 2))
+                            .build())
+                    .toList();
+            content = objectMapper.writeValueAsBytes(fileOrders);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Report {
+        @Param({"10000", "1000000"})
+        public int rows;
+        public OrderResponseDto[] orders;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            orders = IntStream.range(0, 100)
+                    .mapToObj(i -> new OrderResponseDto((long) i, (long) i % 10 + 1,
+                            LocalDate.of(2024, 1, 1).plusDays(i), "Gloves, Lamp, Soap, T-shirt " + i,
+                            BigDecimal.valueOf(i * 100 + 50, 2)))
+                    .toArray(OrderResponseDto[]::new);
+        }
+    }
+
+    @Benchmark
+    public int parseJsonFileData(JsonFile file, Blackhole blackhole) throws IOException {
+        return FileOperationUtil.parseJsonFileData(new ByteArrayInputStream(file.content), CHUNK_SIZE,
+                blackhole::consume);
+    }
+
+    @Benchmark
+    public void exportToCSV(Report report) throws IOException {
+        OrderResponseDto[] orders = report.orders;
+        FileOperationUtil.exportToCSV(IntStream.range(0, report.rows).mapToObj(i -> orders[i % orders.length]),
+                OutputStream.nullOutputStream());
+    }
+}
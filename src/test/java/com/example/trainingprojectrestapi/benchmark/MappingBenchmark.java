@@ -0,0 +1,128 @@
+package com.example.trainingprojectrestapi.benchmark;
+
+import com.example.trainingprojectrestapi.dto.request.CustomerRequestDto;
+import com.example.trainingprojectrestapi.dto.response.CustomerResponseDto;
+import com.example.trainingprojectrestapi.dto.response.OrderResponseDto;
+import com.example.trainingprojectrestapi.entity.Customer;
+import com.example.trainingprojectrestapi.entity.Order;
+import com.example.trainingprojectrestapi.mapper.CustomerMapper;
+import com.example.trainingprojectrestapi.mapper.OrderMapper;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ObjectMapper#convertValue}, the generated MapStruct mappers and hand-written mapping
+ * for the customer and order DTOs. The object mapper is configured like the one of the application,
+ * which ignores the properties the target DTO does not have.
+ * Run with {@code mvn -Pbenchmark -DskipTests verify -Djmh.includes=MappingBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private Customer customer;
+    private CustomerRequestDto customerRequestDto;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        customer = Customer.builder()
+                .id(1L)
+                .firstName("Alice")
+                .lastName("Smith")
+                .phoneNumber("380777777777")
+                .email("test_alice@test.test")
+                .build();
+        customerRequestDto = CustomerRequestDto.builder()
+                .firstName("Bob")
+                .lastName("Test")
+                .phoneNumber("380333333333")
+                .email("test_bob@test.test")
+                .build();
+        order = Order.builder()
+                .id(1L)
+                .customer(customer)
+                .orderDate(LocalDate.of(2024, 1, 10))
+                .statusPayment(true)
+                .description("Gloves, Lamp, Soap, T-shirt")
+                .totalPrice(BigDecimal.valueOf(123.50))
+                .build();
+    }
+
+    @Benchmark
+    public CustomerResponseDto customerToDtoConvertValue() {
+        return objectMapper.convertValue(customer, CustomerResponseDto.class);
+    }
+
+    @Benchmark
+    public CustomerResponseDto customerToDtoMapStruct() {
+        return CustomerMapper.INSTANCE.mapCustomerToDto(customer);
+    }
+
+    @Benchmark
+    public CustomerResponseDto customerToDtoHandWritten() {
+        return new CustomerResponseDto(customer.getId(), customer.getFirstName(), customer.getLastName(),
+                customer.getPhoneNumber(), customer.getEmail());
+    }
+
+    @Benchmark
+    public Customer dtoToCustomerConvertValue() {
+        return objectMapper.convertValue(customerRequestDto, Customer.class);
+    }
+
+    @Benchmark
+    public Customer dtoToCustomerMapStruct() {
+        return CustomerMapper.INSTANCE.mapDtoToCustomer(customerRequestDto);
+    }
+
+    @Benchmark
+    public Customer dtoToCustomerHandWritten() {
+        return Customer.builder()
+                .firstName(customerRequestDto.getFirstName())
+                .lastName(customerRequestDto.getLastName())
+                .phoneNumber(customerRequestDto.getPhoneNumber())
+                .email(customerRequestDto.getEmail())
+                .build();
+    }
+
+    /**
+     * Unlike the other order variants, this one leaves {@code customerId} empty, as the tree round-trip
+     * has no way to flatten the customer association.
+     */
+    @Benchmark
+    public OrderResponseDto orderToDtoConvertValue() {
+        return objectMapper.convertValue(order, OrderResponseDto.class);
+    }
+
+    @Benchmark
+    public OrderResponseDto orderToDtoMapStruct() {
+        return OrderMapper.INSTANCE.mapOrderToDto(order);
+    }
+
+    @Benchmark
+    public OrderResponseDto orderToDtoHandWritten() {
+        return new OrderResponseDto(order.getId(), order.getCustomer().getId(), order.getOrderDate(),
+                order.getDescription(), order.getTotalPrice());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.trainingprojectrestapi.benchmark;
+
+import com.example.trainingprojectrestapi.model.OrderCriteria;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-request parsing of the order search criteria, which replaced building a JPA
+ * {@code Specification} per request. The query itself is compiled once per criteria shape.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderCriteriaBenchmark {
+    private final Map<String, Object> singleCriterion = Map.of("customerId", 1);
+    private final Map<String, Object> allCriteria = Map.of(
+            "customerIds", List.of(1, 2, 3),
+            "orderDateFrom", "2024-01-01",
+            "orderDateTo", "2024-12-31",
+            "totalPriceMin", 10,
+            "totalPriceMax", 500.5,
+            "statusPayment", true,
+            "description", "Lamp",
+            "descriptionSearch", "gloves lamp");
+
+    @Benchmark
+    public OrderCriteria parseSingleCriterion() {
+        return OrderCriteria.from(singleCriterion);
+    }
+
+    @Benchmark
+    public OrderCriteria parseAllCriteria() {
+        return OrderCriteria.from(allCriteria);
+    }
+}
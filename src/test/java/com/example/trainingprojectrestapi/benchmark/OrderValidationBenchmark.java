@@ -0,0 +1,78 @@
+package com.example.trainingprojectrestapi.benchmark;
+
+import com.example.trainingprojectrestapi.dto.request.OrderRequestDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the bean validation of imported orders, as done by {@code OrderImporter.validateOrder},
+ * for a valid order and for an order violating two constraints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderValidationBenchmark {
+    private LocalValidatorFactoryBean validator;
+    private OrderRequestDto validOrder;
+    private OrderRequestDto invalidOrder;
+
+    @Setup
+    public void setUp() {
+        validator = new LocalValidatorFactoryBean();
+        validator.afterPropertiesSet();
+        validOrder = OrderRequestDto.builder()
+                .customerId(1L)
+                .orderDate(LocalDate.of(2024, 1, 10))
+                .statusPayment(true)
+                .description("Gloves, Lamp, Soap, T-shirt")
+                .totalPrice(BigDecimal.valueOf(123.50))
+                .build();
+        invalidOrder = OrderRequestDto.builder()
+                .customerId(1L)
+                .orderDate(LocalDate.of(2999, 1, 10))
+                .statusPayment(true)
+                .description("Gloves, Lamp, Soap, T-shirt")
+                .totalPrice(BigDecimal.valueOf(-123.50))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validator.close();
+    }
+
+    @Benchmark
+    public Errors validateValidOrder() {
+        return validate(validOrder);
+    }
+
+    @Benchmark
+    public Errors validateInvalidOrder() {
+        return validate(invalidOrder);
+    }
+
+    private Errors validate(OrderRequestDto order) {
+        Errors errors = new BeanPropertyBindingResult(order, OrderRequestDto.class.getSimpleName());
+        validator.validate(order, errors);
+        return errors;
+    }
+}